@@ -0,0 +1,233 @@
+package com.product.catalog.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Cross-replica cache invalidation over PostgreSQL NOTIFY.
+ *
+ * Keys published inside a transaction are coalesced per topic and sent with pg_notify on the
+ * transaction's own connection just before commit, so PostgreSQL delivers them only if the
+ * transaction commits. Every replica (including this one) receives them through
+ * {@link PostgresInvalidationListener} and evicts the keys from its local caches.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    /** PostgreSQL rejects payloads of 8000 bytes or more */
+    private static final int MAX_PAYLOAD_BYTES = 7500;
+
+    static final char TOPIC_SEPARATOR = '|';
+    static final char KEY_SEPARATOR = '\n';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String channel;
+
+    private final Map<InvalidationTopic, List<Consumer<Set<String>>>> subscribers = new EnumMap<>(InvalidationTopic.class);
+    private final List<Runnable> degradedHandlers = new CopyOnWriteArrayList<>();
+    private final List<Runnable> recoveredHandlers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean listenerConnected = new AtomicBoolean(false);
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                @Value("${catalog.cache.invalidation.enabled:true}") boolean enabled,
+                                @Value("${catalog.cache.invalidation.channel:catalog_cache_invalidation}") String channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.channel = channel;
+        for (InvalidationTopic topic : InvalidationTopic.values()) {
+            subscribers.put(topic, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * Register a handler that evicts keys of the given topic from a local cache.
+     */
+    public void subscribe(InvalidationTopic topic, Consumer<Set<String>> handler) {
+        subscribers.get(topic).add(handler);
+    }
+
+    /**
+     * Register callbacks for when the listener connection drops (notifications may be missed)
+     * and when it is re-established (caches must be resynchronised).
+     */
+    public void onConnectionStateChange(Runnable degraded, Runnable recovered) {
+        degradedHandlers.add(degraded);
+        recoveredHandlers.add(recovered);
+    }
+
+    /**
+     * Publish changed keys to all replicas.
+     * Inside a transaction the keys are buffered and sent once, right before commit.
+     */
+    public void publish(InvalidationTopic topic, Collection<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            pendingInvalidations().computeIfAbsent(topic, t -> new LinkedHashSet<>()).addAll(keys);
+        } else {
+            send(Map.of(topic, new LinkedHashSet<>(keys)));
+        }
+    }
+
+    /**
+     * Whether notifications are currently being received.
+     */
+    public boolean isListenerConnected() {
+        return listenerConnected.get();
+    }
+
+    void dispatch(Map<InvalidationTopic, Set<String>> batch) {
+        batch.forEach((topic, keys) -> {
+            log.debug("Received {} invalidation(s) for topic {}", keys.size(), topic);
+            for (Consumer<Set<String>> handler : subscribers.get(topic)) {
+                try {
+                    handler.accept(keys);
+                } catch (RuntimeException ex) {
+                    log.error("Invalidation handler for topic {} failed: {}", topic, ex.getMessage(), ex);
+                }
+            }
+        });
+    }
+
+    void listenerStarting() {
+        // Until LISTEN is confirmed, remote writes may be missed
+        degradedHandlers.forEach(Runnable::run);
+    }
+
+    void listenerConnected() {
+        if (listenerConnected.compareAndSet(false, true)) {
+            log.info("Cache invalidation listener connected on channel {}", channel);
+            recoveredHandlers.forEach(Runnable::run);
+        }
+    }
+
+    void listenerDisconnected() {
+        if (listenerConnected.compareAndSet(true, false)) {
+            log.warn("Cache invalidation listener disconnected from channel {}", channel);
+            degradedHandlers.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Decode a NOTIFY payload of the form {@code TOPIC|key\nkey...}.
+     */
+    static void decode(String payload, Map<InvalidationTopic, Set<String>> into) {
+        int separator = payload.indexOf(TOPIC_SEPARATOR);
+        if (separator < 0) {
+            log.warn("Ignoring malformed invalidation payload");
+            return;
+        }
+
+        InvalidationTopic topic;
+        try {
+            topic = InvalidationTopic.valueOf(payload.substring(0, separator));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring invalidation for unknown topic {}", payload.substring(0, separator));
+            return;
+        }
+
+        Set<String> keys = into.computeIfAbsent(topic, t -> new LinkedHashSet<>());
+        for (String key : payload.substring(separator + 1).split(String.valueOf(KEY_SEPARATOR))) {
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<InvalidationTopic, Set<String>> pendingInvalidations() {
+        Map<InvalidationTopic, Set<String>> pending =
+                (Map<InvalidationTopic, Set<String>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<InvalidationTopic, Set<String>> newPending = new EnumMap<>(InvalidationTopic.class);
+            TransactionSynchronizationManager.bindResource(this, newPending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(newPending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                }
+            });
+            pending = newPending;
+        }
+        return pending;
+    }
+
+    private void send(Map<InvalidationTopic, Set<String>> invalidations) {
+        invalidations.forEach((topic, keys) -> {
+            List<String> payloads = encode(topic, keys);
+            for (String payload : payloads) {
+                jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) ps -> {
+                    ps.setString(1, channel);
+                    ps.setString(2, payload);
+                    return ps.execute();
+                });
+            }
+            log.debug("Published {} invalidation(s) for topic {} in {} notification(s)",
+                    keys.size(), topic, payloads.size());
+        });
+    }
+
+    /**
+     * Pack keys into as few payloads as possible while staying under the NOTIFY size limit.
+     */
+    private static List<String> encode(InvalidationTopic topic, Set<String> keys) {
+        List<String> payloads = new ArrayList<>();
+        String prefix = topic.name() + TOPIC_SEPARATOR;
+        StringBuilder payload = new StringBuilder(prefix);
+        int payloadBytes = prefix.length();
+
+        for (String key : keys) {
+            int keyBytes = key.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (payloadBytes + keyBytes > MAX_PAYLOAD_BYTES && payload.length() > prefix.length()) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+                payload.append(prefix);
+                payloadBytes = prefix.length();
+            }
+            payload.append(key).append(KEY_SEPARATOR);
+            payloadBytes += keyBytes;
+        }
+
+        if (payload.length() > prefix.length()) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+}
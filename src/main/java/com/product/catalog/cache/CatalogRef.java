@@ -0,0 +1,9 @@
+package com.product.catalog.cache;
+
+import com.product.catalog.entity.CatalogVersion;
+
+/**
+ * Immutable view of a catalog row held in the reference-data snapshot
+ */
+public record CatalogRef(String code, String name, CatalogVersion catalogVersion) {
+}
@@ -0,0 +1,7 @@
+package com.product.catalog.cache;
+
+/**
+ * A row of the category_subcategories join table
+ */
+public record CategoryEdge(String parentCode, String childCode) {
+}
@@ -0,0 +1,17 @@
+package com.product.catalog.cache;
+
+import java.util.List;
+
+/**
+ * Immutable node of the category tree.
+ *
+ * @param productCount      products assigned to this category itself
+ * @param totalProductCount products in this category or any descendant, each counted once
+ */
+public record CategoryNode(String code,
+                           String name,
+                           String description,
+                           long productCount,
+                           long totalProductCount,
+                           List<CategoryNode> children) {
+}
@@ -0,0 +1,7 @@
+package com.product.catalog.cache;
+
+/**
+ * Number of products assigned directly to a category
+ */
+public record CategoryProductCount(String categoryCode, Long productCount) {
+}
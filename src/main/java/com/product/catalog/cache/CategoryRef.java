@@ -0,0 +1,7 @@
+package com.product.catalog.cache;
+
+/**
+ * Immutable view of a category row held in the reference-data snapshot
+ */
+public record CategoryRef(String code, String name, String description, String parentCode) {
+}
@@ -0,0 +1,17 @@
+package com.product.catalog.cache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable category tree with product counts, rebuilt and swapped by CategoryTreeCache.
+ * A category under several parents is the same shared node in each place.
+ *
+ * @param version hash of the tree content, equal on every replica for equal trees; used as the ETag
+ */
+public record CategoryTree(List<CategoryNode> roots, Map<String, CategoryNode> nodes, String version) {
+
+    public CategoryNode findNode(String code) {
+        return code == null ? null : nodes.get(code);
+    }
+}
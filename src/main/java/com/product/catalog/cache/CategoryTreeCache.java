@@ -0,0 +1,193 @@
+package com.product.catalog.cache;
+
+import com.product.catalog.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the category tree with product counts so navigation reads never touch the database.
+ *
+ * The structure comes from the reference-data snapshot and is rebuilt, with the current counts,
+ * whenever that snapshot is reloaded. Product counts come from one grouped query; a PRODUCT
+ * invalidation only marks them stale, and a scheduled task reloads them and rebuilds the tree
+ * at most once per interval, however many products changed.
+ */
+@Component
+public class CategoryTreeCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryTreeCache.class);
+
+    private final ReferenceDataCache referenceDataCache;
+    private final ProductRepository productRepository;
+    private final Duration maxCountAge;
+
+    private final AtomicReference<CategoryTree> tree = new AtomicReference<>();
+    private final AtomicBoolean countsStale = new AtomicBoolean(true);
+    private final Object buildLock = new Object();
+
+    private volatile ReferenceDataSnapshot builtFrom;
+    private volatile Map<String, Long> directCounts = Map.of();
+    private volatile Instant countsLoadedAt = Instant.EPOCH;
+
+    public CategoryTreeCache(ReferenceDataCache referenceDataCache,
+                             ProductRepository productRepository,
+                             CacheInvalidationBus invalidationBus,
+                             @Value("${catalog.cache.category-tree.max-count-age:5m}") Duration maxCountAge) {
+        this.referenceDataCache = referenceDataCache;
+        this.productRepository = productRepository;
+        this.maxCountAge = maxCountAge;
+
+        invalidationBus.subscribe(InvalidationTopic.PRODUCT, codes -> countsStale.set(true));
+        invalidationBus.onConnectionStateChange(() -> { }, () -> countsStale.set(true));
+        referenceDataCache.onRefresh(this::rebuildStructure);
+    }
+
+    /**
+     * Current tree; only the very first call before startup loading queries the database.
+     */
+    public CategoryTree current() {
+        CategoryTree current = tree.get();
+        return current != null ? current : refreshCounts();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refreshCounts();
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.cache.category-tree.count-refresh-interval:10s}",
+            initialDelayString = "${catalog.cache.category-tree.count-refresh-interval:10s}")
+    public void refreshCountsIfStale() {
+        // Without the invalidation bus nothing marks counts stale, so they also expire by age
+        if (countsStale.get() || countsLoadedAt.plus(maxCountAge).isBefore(Instant.now())) {
+            refreshCounts();
+        }
+    }
+
+    /**
+     * Reload the per-category product counts and rebuild the tree on the current structure.
+     */
+    public CategoryTree refreshCounts() {
+        // Resolved outside the build lock: a first load refreshes reference data, which calls back into this class
+        ReferenceDataSnapshot snapshot = referenceDataCache.current();
+        synchronized (buildLock) {
+            // Cleared before querying so that writes committed meanwhile mark the counts stale again
+            countsStale.set(false);
+            directCounts = productRepository.countByCategory().stream()
+                    .collect(Collectors.toUnmodifiableMap(CategoryProductCount::categoryCode,
+                            CategoryProductCount::productCount));
+            countsLoadedAt = Instant.now();
+
+            ReferenceDataSnapshot latest = builtFrom;
+            return build(latest != null && latest.getGeneration() > snapshot.getGeneration() ? latest : snapshot);
+        }
+    }
+
+    private void rebuildStructure(ReferenceDataSnapshot snapshot) {
+        synchronized (buildLock) {
+            build(snapshot);
+        }
+    }
+
+    private CategoryTree build(ReferenceDataSnapshot snapshot) {
+        Map<String, Long> counts = directCounts;
+        Map<String, CategoryNode> nodes = new HashMap<>();
+        List<CategoryNode> roots = snapshot.getRootCodes().stream()
+                .map(code -> node(code, snapshot, counts, nodes, new HashSet<>()))
+                .toList();
+        // Categories reachable only through a cycle have no root; keep them addressable by code
+        for (String code : snapshot.getCategories().keySet()) {
+            node(code, snapshot, counts, nodes, new HashSet<>());
+        }
+
+        CategoryTree built = new CategoryTree(roots, Collections.unmodifiableMap(nodes), contentVersion(roots, nodes));
+        builtFrom = snapshot;
+        tree.set(built);
+        log.debug("Category tree {} built - categories: {}", built.version(), nodes.size());
+        return built;
+    }
+
+    private static CategoryNode node(String code,
+                                     ReferenceDataSnapshot snapshot,
+                                     Map<String, Long> counts,
+                                     Map<String, CategoryNode> nodes,
+                                     Set<String> path) {
+        CategoryNode existing = nodes.get(code);
+        if (existing != null) {
+            return existing;
+        }
+
+        path.add(code);
+        List<CategoryNode> children = snapshot.childCodes(code).stream()
+                .filter(child -> !path.contains(child))
+                .map(child -> node(child, snapshot, counts, nodes, path))
+                .toList();
+        path.remove(code);
+
+        CategoryRef category = snapshot.findCategory(code);
+        CategoryNode node = new CategoryNode(code, category.name(), category.description(),
+                counts.getOrDefault(code, 0L), totalCount(code, snapshot, counts), children);
+        nodes.put(code, node);
+        return node;
+    }
+
+    /**
+     * Hash of everything the tree endpoints return: root order, and per category its name,
+     * description, counts and children. Equal trees get the same version on every replica and
+     * across restarts; any visible change produces a new one.
+     */
+    private static String contentVersion(List<CategoryNode> roots, Map<String, CategoryNode> nodes) {
+        ContentDigest digest = new ContentDigest();
+        digest.add(Integer.toString(roots.size()));
+        roots.forEach(root -> digest.add(root.code()));
+        for (String code : new TreeSet<>(nodes.keySet())) {
+            CategoryNode node = nodes.get(code);
+            digest.add(node.code())
+                    .add(node.name())
+                    .add(node.description())
+                    .add(Long.toString(node.productCount()))
+                    .add(Long.toString(node.totalProductCount()))
+                    .add(Integer.toString(node.children().size()));
+            node.children().forEach(child -> digest.add(child.code()));
+        }
+        return digest.toHex();
+    }
+
+    /**
+     * Products in the subtree; a category reachable along several paths is counted once
+     */
+    private static long totalCount(String code, ReferenceDataSnapshot snapshot, Map<String, Long> counts) {
+        long total = 0;
+        Set<String> seen = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.push(code);
+        while (!pending.isEmpty()) {
+            String next = pending.pop();
+            if (seen.add(next)) {
+                total += counts.getOrDefault(next, 0L);
+                snapshot.childCodes(next).forEach(pending::push);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,39 @@
+package com.product.catalog.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 over a sequence of string fields, used to version cached representations by content
+ * so every replica derives the same version from the same data.
+ */
+final class ContentDigest {
+
+    private final MessageDigest digest;
+
+    ContentDigest() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    ContentDigest add(String value) {
+        // Length-prefixed so that adjacent fields cannot run into each other
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value == null ? -1 : bytes.length).array());
+        digest.update(bytes);
+        return this;
+    }
+
+    /**
+     * First 16 bytes of the digest as hex
+     */
+    String toHex() {
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+}
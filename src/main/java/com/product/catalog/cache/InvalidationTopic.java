@@ -0,0 +1,20 @@
+package com.product.catalog.cache;
+
+/**
+ * Kinds of cached data that can be invalidated across replicas.
+ * The topic name prefixes every NOTIFY payload.
+ */
+public enum InvalidationTopic {
+
+    /** Product codes cached by ProductCache */
+    PRODUCT,
+
+    /** Category or catalog tables changed; the payload names the table */
+    REFERENCE_DATA,
+
+    /** Usernames cached by UserDetailsCache whose credentials or roles changed */
+    USER,
+
+    /** jti of tokens revoked before expiry; added to every replica's revocation filter */
+    TOKEN_REVOCATION
+}
@@ -0,0 +1,162 @@
+package com.product.catalog.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Listens for cache invalidations on a dedicated PostgreSQL connection.
+ *
+ * The connection is opened outside the Hikari pool so that a long-lived LISTEN session never
+ * takes a slot from request handling. Notifications arriving within the coalesce window are
+ * merged into one batch per topic before they are dispatched to local caches.
+ */
+@Component
+public class PostgresInvalidationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresInvalidationListener.class);
+
+    /** Upper bound of notifications merged into one dispatch */
+    private static final int MAX_BATCH_NOTIFICATIONS = 1000;
+
+    private final CacheInvalidationBus bus;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Duration pollInterval;
+    private final Duration coalesceWindow;
+    private final Duration reconnectBackoff;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public PostgresInvalidationListener(CacheInvalidationBus bus,
+                                        @Value("${spring.datasource.url}") String url,
+                                        @Value("${spring.datasource.username:}") String username,
+                                        @Value("${spring.datasource.password:}") String password,
+                                        @Value("${catalog.cache.invalidation.poll-interval:5s}") Duration pollInterval,
+                                        @Value("${catalog.cache.invalidation.coalesce-window:50ms}") Duration coalesceWindow,
+                                        @Value("${catalog.cache.invalidation.reconnect-backoff:5s}") Duration reconnectBackoff) {
+        this.bus = bus;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollInterval = pollInterval;
+        this.coalesceWindow = coalesceWindow;
+        this.reconnectBackoff = reconnectBackoff;
+    }
+
+    @Override
+    public void start() {
+        if (!bus.isEnabled()) {
+            log.info("Cross-replica cache invalidation is disabled");
+            return;
+        }
+
+        running = true;
+        bus.listenerStarting();
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(connection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(url, username, password)) {
+                connection = conn;
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + bus.getChannel());
+                }
+                bus.listenerConnected();
+                receive(conn.unwrap(PGConnection.class), conn);
+            } catch (SQLException ex) {
+                if (running) {
+                    log.warn("Cache invalidation listener failed: {}", ex.getMessage());
+                }
+            } finally {
+                connection = null;
+                bus.listenerDisconnected();
+            }
+
+            sleep(reconnectBackoff);
+        }
+    }
+
+    private void receive(PGConnection pgConnection, Connection conn) throws SQLException {
+        int pollMillis = (int) pollInterval.toMillis();
+        int coalesceMillis = (int) Math.max(1, coalesceWindow.toMillis());
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+            if (notifications == null || notifications.length == 0) {
+                if (!conn.isValid((int) Math.max(1, pollInterval.toSeconds()))) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                continue;
+            }
+
+            // Bulk writes emit a burst of notifications: keep draining for a short window
+            Map<InvalidationTopic, Set<String>> batch = new EnumMap<>(InvalidationTopic.class);
+            int received = 0;
+            while (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    CacheInvalidationBus.decode(notification.getParameter(), batch);
+                }
+                received += notifications.length;
+                if (received >= MAX_BATCH_NOTIFICATIONS) {
+                    break;
+                }
+                notifications = pgConnection.getNotifications(coalesceMillis);
+            }
+
+            bus.dispatch(batch);
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException ex) {
+            log.debug("Error closing listener connection: {}", ex.getMessage());
+        }
+    }
+}
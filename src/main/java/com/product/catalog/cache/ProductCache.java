@@ -0,0 +1,174 @@
+package com.product.catalog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.product.catalog.domain.PriceDomain;
+import com.product.catalog.domain.ProductDomain;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * In-process read-through cache of ProductDomain keyed by product code.
+ * Bounded by entry count and by estimated heap weight, with a TTL as a safety net.
+ * Statistics are published to Micrometer under the cache name "products".
+ *
+ * Evictions are propagated to other replicas through {@link CacheInvalidationBus}. While the
+ * invalidation listener is down the TTL drops to a short fallback so stale entries age out quickly.
+ */
+@Component
+public class ProductCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCache.class);
+
+    private static final String CACHE_NAME = "products";
+
+    private final Cache<String, ProductDomain> cache;
+    private final CacheInvalidationBus invalidationBus;
+    private final Duration ttl;
+    private final Duration fallbackTtl;
+
+    public ProductCache(MeterRegistry meterRegistry,
+                        CacheInvalidationBus invalidationBus,
+                        @Value("${catalog.cache.product.max-entries:10000}") long maxEntries,
+                        @Value("${catalog.cache.product.max-weight-bytes:67108864}") long maxWeightBytes,
+                        @Value("${catalog.cache.product.ttl:10m}") Duration ttl,
+                        @Value("${catalog.cache.product.fallback-ttl:30s}") Duration fallbackTtl) {
+        this.invalidationBus = invalidationBus;
+        this.ttl = ttl;
+        this.fallbackTtl = fallbackTtl;
+
+        // Caffeine cannot combine maximumSize and maximumWeight, so every entry weighs at least
+        // maxWeight / maxEntries: the cache then never holds more than maxEntries products.
+        int minimumWeight = (int) Math.max(1L, maxWeightBytes / Math.max(1L, maxEntries));
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String code, ProductDomain product) -> Math.max(minimumWeight, estimateSize(product)))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        invalidationBus.subscribe(InvalidationTopic.PRODUCT, this::evictAll);
+        invalidationBus.onConnectionStateChange(
+                () -> setTimeToLive(fallbackTtl),
+                () -> {
+                    // Notifications may have been missed while disconnected
+                    clear();
+                    setTimeToLive(ttl);
+                });
+        log.info("Product cache initialised - maxEntries: {}, maxWeightBytes: {}, ttl: {}",
+                maxEntries, maxWeightBytes, ttl);
+    }
+
+    /**
+     * Return the cached product, loading it with the given function on a miss.
+     * A loader returning null (product not found) is not cached.
+     */
+    public ProductDomain get(String code, Function<String, ProductDomain> loader) {
+        return cache.get(code, loader);
+    }
+
+    /**
+     * Return the cached products for the given codes, loading every miss with a single call to the bulk loader.
+     * Codes the loader does not return (not found) are absent from the result and are not cached.
+     */
+    public Map<String, ProductDomain> getAll(Collection<String> codes,
+                                             Function<Set<? extends String>, Map<String, ProductDomain>> loader) {
+        return cache.getAll(codes, loader);
+    }
+
+    /**
+     * Return the cached product without loading it, or null.
+     */
+    public ProductDomain getIfPresent(String code) {
+        return cache.getIfPresent(code);
+    }
+
+    /**
+     * Evict a single product.
+     */
+    public void evict(String code) {
+        cache.invalidate(code);
+    }
+
+    /**
+     * Evict many products at once.
+     */
+    public void evictAll(Collection<String> codes) {
+        cache.invalidateAll(codes);
+    }
+
+    /**
+     * Drop every cached product.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Evict the given products immediately and once more after the surrounding transaction commits,
+     * so a concurrent read cannot re-populate the cache with the pre-commit state.
+     * The codes are also published to the other replicas.
+     */
+    public void evictAfterCommit(Collection<String> codes) {
+        List<String> keys = List.copyOf(codes);
+        evictAll(keys);
+        invalidationBus.publish(InvalidationTopic.PRODUCT, keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAll(keys);
+                }
+            });
+        }
+    }
+
+    private void setTimeToLive(Duration timeToLive) {
+        cache.policy().expireAfterWrite().ifPresent(expiration -> {
+            if (!expiration.getExpiresAfter().equals(timeToLive)) {
+                expiration.setExpiresAfter(timeToLive);
+                log.info("Product cache TTL set to {}", timeToLive);
+            }
+        });
+    }
+
+    /**
+     * Rough retained-heap estimate of a cached product in bytes.
+     */
+    private static int estimateSize(ProductDomain product) {
+        int size = 160; // object headers, boxed fields and the cache node itself
+        size += stringSize(product.getCode());
+        size += stringSize(product.getName());
+        size += stringSize(product.getDescription());
+        size += stringSize(product.getStockKeepingUnit());
+        size += stringSize(product.getCategoryCode());
+        size += stringSize(product.getCatalogCode());
+
+        PriceDomain price = product.getBasePrice();
+        if (price != null) {
+            size += 64 + stringSize(price.getCurrency());
+        }
+        return size;
+    }
+
+    private static int stringSize(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+}
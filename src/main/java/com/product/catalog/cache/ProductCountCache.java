@@ -0,0 +1,98 @@
+package com.product.catalog.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.product.catalog.domain.ProductFilter;
+import com.product.catalog.repository.ProductJdbcRepository;
+import com.product.catalog.repository.ProductRepository;
+import com.product.catalog.repository.ProductSpecifications;
+import com.product.catalog.search.ProductFacets;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Approximate product counts for paged listings.
+ *
+ * The unfiltered count comes from PostgreSQL planner statistics. Filtered counts and facet counts
+ * are computed exactly once per filter and then served from cache; after refresh-after they are
+ * recomputed in the background while the previous value keeps being served.
+ */
+@Component
+public class ProductCountCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCountCache.class);
+
+    private final ProductRepository productRepository;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final LoadingCache<ProductFilter, Long> counts;
+    private final LoadingCache<ProductFilter, ProductFacets> facets;
+    private final List<BigDecimal> priceBounds;
+
+    public ProductCountCache(ProductRepository productRepository,
+                             ProductJdbcRepository productJdbcRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${catalog.cache.product-count.max-entries:1000}") long maxEntries,
+                             @Value("${catalog.cache.product-count.refresh-after:1m}") Duration refreshAfter,
+                             @Value("${catalog.cache.product-count.expire-after:30m}") Duration expireAfter,
+                             @Value("${catalog.facets.price-bounds:10,25,50,100,250,500,1000}") List<BigDecimal> priceBounds) {
+        this.productRepository = productRepository;
+        this.productJdbcRepository = productJdbcRepository;
+        this.priceBounds = priceBounds.stream().sorted().distinct().toList();
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterAccess(expireAfter)
+                .recordStats()
+                .build(this::countExactly);
+
+        this.facets = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterAccess(expireAfter)
+                .recordStats()
+                .build(this::countFacets);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "product-counts");
+        CaffeineCacheMetrics.monitor(meterRegistry, facets, "product-facets");
+    }
+
+    /**
+     * Approximate number of products matching the listing filters
+     */
+    public long approximateCount(ProductFilter filter) {
+        if (filter.isEmpty()) {
+            long estimate = productJdbcRepository.estimateProductCount();
+            if (estimate >= 0) {
+                return estimate;
+            }
+        }
+        return counts.get(filter);
+    }
+
+    /**
+     * Category, stock and price-range counts for the listing filters
+     */
+    public ProductFacets facets(ProductFilter filter) {
+        return facets.get(filter);
+    }
+
+    private ProductFacets countFacets(ProductFilter filter) {
+        ProductFacets result = productJdbcRepository.facetCounts(filter, priceBounds);
+        log.debug("Refreshed product facets for {}: {} products", filter, result.total());
+        return result;
+    }
+
+    private long countExactly(ProductFilter filter) {
+        long count = productRepository.count(ProductSpecifications.matching(filter));
+        log.debug("Refreshed product count for {}: {}", filter, count);
+        return count;
+    }
+}
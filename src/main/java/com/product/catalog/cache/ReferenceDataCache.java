@@ -0,0 +1,137 @@
+package com.product.catalog.cache;
+
+import com.product.catalog.repository.CatalogRepository;
+import com.product.catalog.repository.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Holds an immutable in-memory snapshot of categories and catalogs.
+ *
+ * Product writes resolve category and catalog codes against the snapshot instead of querying the
+ * database per item. The snapshot is rebuilt when a REFERENCE_DATA invalidation arrives (emitted by
+ * a database trigger on both tables), on a fixed schedule as a safety net, and on demand when a
+ * write references a code the current snapshot does not know yet.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    private final CategoryRepository categoryRepository;
+    private final CatalogRepository catalogRepository;
+    private final Duration minRefreshInterval;
+
+    private final AtomicReference<ReferenceDataSnapshot> snapshot = new AtomicReference<>();
+    private final Object refreshLock = new Object();
+    private final List<Consumer<ReferenceDataSnapshot>> refreshListeners = new CopyOnWriteArrayList<>();
+
+    public ReferenceDataCache(CategoryRepository categoryRepository,
+                              CatalogRepository catalogRepository,
+                              CacheInvalidationBus invalidationBus,
+                              @Value("${catalog.cache.reference-data.min-refresh-interval:10s}") Duration minRefreshInterval) {
+        this.categoryRepository = categoryRepository;
+        this.catalogRepository = catalogRepository;
+        this.minRefreshInterval = minRefreshInterval;
+
+        invalidationBus.subscribe(InvalidationTopic.REFERENCE_DATA, keys -> refresh());
+        invalidationBus.onConnectionStateChange(() -> { }, this::refresh);
+    }
+
+    /**
+     * Run the listener with every newly loaded snapshot, on the refreshing thread
+     */
+    public void onRefresh(Consumer<ReferenceDataSnapshot> listener) {
+        refreshListeners.add(listener);
+    }
+
+    /**
+     * Current snapshot, loaded on first use if startup loading has not happened yet.
+     */
+    public ReferenceDataSnapshot current() {
+        ReferenceDataSnapshot current = snapshot.get();
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * Look up a category, refreshing a stale snapshot once if the code is unknown.
+     */
+    public CategoryRef findCategory(String code) {
+        CategoryRef category = current().findCategory(code);
+        if (category == null && refreshIfStale()) {
+            category = current().findCategory(code);
+        }
+        return category;
+    }
+
+    /**
+     * Look up a catalog, refreshing a stale snapshot once if the code is unknown.
+     */
+    public CatalogRef findCatalog(String code) {
+        CatalogRef catalog = current().findCatalog(code);
+        if (catalog == null && refreshIfStale()) {
+            catalog = current().findCatalog(code);
+        }
+        return catalog;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.cache.reference-data.refresh-interval:5m}",
+            initialDelayString = "${catalog.cache.reference-data.refresh-interval:5m}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * Reload both tables and atomically swap in the new snapshot.
+     */
+    public ReferenceDataSnapshot refresh() {
+        synchronized (refreshLock) {
+            ReferenceDataSnapshot previous = snapshot.get();
+            long generation = previous != null ? previous.getGeneration() + 1 : 1L;
+
+            List<CategoryRef> categories = categoryRepository.findAllRefs();
+            List<CategoryEdge> subcategoryEdges = categoryRepository.findAllSubcategoryEdges();
+            List<CatalogRef> catalogs = catalogRepository.findAllRefs();
+            ReferenceDataSnapshot next = ReferenceDataSnapshot.of(categories, subcategoryEdges, catalogs, generation);
+
+            snapshot.set(next);
+            log.debug("Reference data snapshot {} loaded - categories: {}, catalogs: {}",
+                    generation, categories.size(), catalogs.size());
+
+            for (Consumer<ReferenceDataSnapshot> listener : refreshListeners) {
+                try {
+                    listener.accept(next);
+                } catch (RuntimeException ex) {
+                    log.warn("Reference data refresh listener failed", ex);
+                }
+            }
+            return next;
+        }
+    }
+
+    private boolean refreshIfStale() {
+        ReferenceDataSnapshot current = snapshot.get();
+        if (current != null && current.getLoadedAt().plus(minRefreshInterval).isAfter(Instant.now())) {
+            return false;
+        }
+        refresh();
+        return true;
+    }
+}
@@ -0,0 +1,162 @@
+package com.product.catalog.cache;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable point-in-time copy of the categories and catalogs tables.
+ * A new snapshot is built on every refresh and swapped in atomically by ReferenceDataCache.
+ * Category breadcrumbs (root first, along parent links) and the child lists of the category tree
+ * (parent links plus the category_subcategories table) are precomputed at build time.
+ */
+public final class ReferenceDataSnapshot {
+
+    private final Map<String, CategoryRef> categories;
+    private final Map<String, CatalogRef> catalogs;
+    private final Map<String, List<CategoryRef>> breadcrumbs;
+    private final Map<String, List<String>> childCodes;
+    private final List<String> rootCodes;
+    private final String breadcrumbVersion;
+    private final long generation;
+    private final Instant loadedAt;
+
+    private ReferenceDataSnapshot(Map<String, CategoryRef> categories,
+                                  Collection<CategoryEdge> subcategoryEdges,
+                                  Map<String, CatalogRef> catalogs,
+                                  long generation,
+                                  Instant loadedAt) {
+        this.categories = categories;
+        this.catalogs = catalogs;
+        this.breadcrumbs = categories.keySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), code -> breadcrumbOf(code, categories)));
+
+        Comparator<String> byName = Comparator.comparing((String code) -> categories.get(code).name())
+                .thenComparing(Comparator.naturalOrder());
+        Map<String, Set<String>> children = new HashMap<>();
+        Set<String> hasParent = new HashSet<>();
+        for (CategoryRef category : categories.values()) {
+            if (category.parentCode() != null && categories.containsKey(category.parentCode())) {
+                children.computeIfAbsent(category.parentCode(), code -> new HashSet<>()).add(category.code());
+                hasParent.add(category.code());
+            }
+        }
+        for (CategoryEdge edge : subcategoryEdges) {
+            if (categories.containsKey(edge.parentCode()) && categories.containsKey(edge.childCode())) {
+                children.computeIfAbsent(edge.parentCode(), code -> new HashSet<>()).add(edge.childCode());
+                hasParent.add(edge.childCode());
+            }
+        }
+        this.childCodes = children.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        entry -> entry.getValue().stream().sorted(byName).toList()));
+        this.rootCodes = categories.keySet().stream()
+                .filter(code -> !hasParent.contains(code))
+                .sorted(byName)
+                .toList();
+        this.breadcrumbVersion = breadcrumbVersion(categories);
+
+        this.generation = generation;
+        this.loadedAt = loadedAt;
+    }
+
+    static ReferenceDataSnapshot of(Collection<CategoryRef> categories,
+                                    Collection<CategoryEdge> subcategoryEdges,
+                                    Collection<CatalogRef> catalogs,
+                                    long generation) {
+        return new ReferenceDataSnapshot(
+                categories.stream().collect(Collectors.toUnmodifiableMap(CategoryRef::code, Function.identity())),
+                subcategoryEdges,
+                catalogs.stream().collect(Collectors.toUnmodifiableMap(CatalogRef::code, Function.identity())),
+                generation,
+                Instant.now()
+        );
+    }
+
+    public CategoryRef findCategory(String code) {
+        return code == null ? null : categories.get(code);
+    }
+
+    public CatalogRef findCatalog(String code) {
+        return code == null ? null : catalogs.get(code);
+    }
+
+    /**
+     * Path from the root category down to the given one, or an empty list for unknown codes
+     */
+    public List<CategoryRef> breadcrumb(String code) {
+        return code == null ? List.of() : breadcrumbs.getOrDefault(code, List.of());
+    }
+
+    /**
+     * Direct children of a category through either kind of parent link, ordered by name
+     */
+    public List<String> childCodes(String code) {
+        return code == null ? List.of() : childCodes.getOrDefault(code, List.of());
+    }
+
+    /**
+     * Categories that are nobody's child, ordered by name
+     */
+    public List<String> getRootCodes() {
+        return rootCodes;
+    }
+
+    public Map<String, CategoryRef> getCategories() {
+        return categories;
+    }
+
+    public Map<String, CatalogRef> getCatalogs() {
+        return catalogs;
+    }
+
+    /**
+     * Hash of every category's code, name and parent: the fields breadcrumbs are built from.
+     * Equal on every replica for the same data; changes whenever any breadcrumb could change.
+     */
+    public String getBreadcrumbVersion() {
+        return breadcrumbVersion;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    private static String breadcrumbVersion(Map<String, CategoryRef> categories) {
+        ContentDigest digest = new ContentDigest();
+        for (String code : new TreeSet<>(categories.keySet())) {
+            CategoryRef category = categories.get(code);
+            digest.add(category.code())
+                    .add(category.name())
+                    .add(category.parentCode());
+        }
+        return digest.toHex();
+    }
+
+    private static List<CategoryRef> breadcrumbOf(String code, Map<String, CategoryRef> categories) {
+        List<CategoryRef> path = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        CategoryRef current = categories.get(code);
+        // The visited set stops at a cycle in bad data instead of looping
+        while (current != null && visited.add(current.code())) {
+            path.add(current);
+            current = current.parentCode() == null ? null : categories.get(current.parentCode());
+        }
+        Collections.reverse(path);
+        return List.copyOf(path);
+    }
+}
@@ -0,0 +1,79 @@
+package com.product.catalog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of users keyed by username, consulted on every authenticated request.
+ * Statistics are published to Micrometer under the cache name "users".
+ *
+ * Credential and role changes evict the user here and, through {@link CacheInvalidationBus}, on the
+ * other replicas. The TTL bounds staleness for changes made directly in the database.
+ */
+@Component
+public class UserDetailsCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserDetailsCache.class);
+
+    private static final String CACHE_NAME = "users";
+
+    private final Cache<String, UserRef> cache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public UserDetailsCache(MeterRegistry meterRegistry,
+                            CacheInvalidationBus invalidationBus,
+                            @Value("${catalog.cache.user.max-entries:10000}") long maxEntries,
+                            @Value("${catalog.cache.user.ttl:5m}") Duration ttl) {
+        this.invalidationBus = invalidationBus;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        invalidationBus.subscribe(InvalidationTopic.USER, cache::invalidateAll);
+        // Notifications may have been missed while disconnected
+        invalidationBus.onConnectionStateChange(() -> { }, cache::invalidateAll);
+        log.info("User cache initialised - maxEntries: {}, ttl: {}", maxEntries, ttl);
+    }
+
+    /**
+     * Return the cached user, loading it with the given function on a miss.
+     * A loader returning null (unknown user) is not cached.
+     */
+    public UserRef get(String username, Function<String, UserRef> loader) {
+        return cache.get(username, loader);
+    }
+
+    /**
+     * Evict the user now and again after the surrounding transaction commits, and on other replicas.
+     */
+    public void evictAfterCommit(String username) {
+        List<String> keys = List.of(username);
+        cache.invalidate(username);
+        invalidationBus.publish(InvalidationTopic.USER, keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+}
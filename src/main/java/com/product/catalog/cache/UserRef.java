@@ -0,0 +1,17 @@
+package com.product.catalog.cache;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Immutable view of a user row held in UserDetailsCache. Spring Security erases the password of
+ * the UserDetails it authenticates, so the cache keeps this instead and a fresh UserDetails is
+ * built per lookup.
+ */
+public record UserRef(String username, String passwordHash, boolean enabled, Set<String> roles,
+                      Instant passwordChangedAt) {
+
+    public UserRef {
+        roles = Set.copyOf(roles);
+    }
+}
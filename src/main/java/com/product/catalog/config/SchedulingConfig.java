@@ -0,0 +1,12 @@
+package com.product.catalog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (cache refreshes, reconciliation)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,7 +3,13 @@ package com.product.catalog.controller;
 import com.product.catalog.dto.ErrorResponse;
 import com.product.catalog.dto.LoginRequest;
 import com.product.catalog.dto.LoginResponse;
+import com.product.catalog.dto.RefreshTokenRequest;
+import com.product.catalog.dto.RevokeTokenRequest;
+import com.product.catalog.exception.BusinessValidationException;
+import com.product.catalog.exception.ServiceUnavailableException;
+import com.product.catalog.security.LoginBulkhead;
 import com.product.catalog.service.AuthService;
+import com.product.catalog.service.TokenRevocationService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -18,24 +24,58 @@ import java.time.LocalDateTime;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginBulkhead loginBulkhead;
+    private final TokenRevocationService tokenRevocationService;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, LoginBulkhead loginBulkhead,
+                          TokenRevocationService tokenRevocationService) {
         this.authService = authService;
+        this.loginBulkhead = loginBulkhead;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
         try {
-            LoginResponse response = authService.authenticate(loginRequest);
+            // BCrypt runs on the login pool, never on the request thread
+            LoginResponse response = loginBulkhead.execute(() -> authService.authenticate(loginRequest));
             return ResponseEntity.ok(response);
+        } catch (ServiceUnavailableException ex) {
+            throw ex;
         } catch (Exception ex) {
-            ErrorResponse error = new ErrorResponse();
-            error.setTimestamp(LocalDateTime.now());
-            error.setStatus(HttpStatus.UNAUTHORIZED.value());
-            error.setError("Unauthorized");
-            error.setMessage("Invalid username or password");
-            error.setPath("/api/v1/auth/login");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+            return unauthorized("Invalid username or password", "/api/v1/auth/login");
         }
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(@Valid @RequestBody RefreshTokenRequest refreshRequest) {
+        try {
+            LoginResponse response = authService.refresh(refreshRequest.getRefreshToken());
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            return unauthorized("Invalid or expired refresh token", "/api/v1/auth/refresh");
+        }
+    }
+
+    @PostMapping("/revoke")
+    public ResponseEntity<?> revokeToken(@Valid @RequestBody RevokeTokenRequest revokeRequest) {
+        try {
+            tokenRevocationService.revoke(revokeRequest.getToken());
+            return ResponseEntity.noContent().build();
+        } catch (BusinessValidationException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            return unauthorized("Invalid or expired token", "/api/v1/auth/revoke");
+        }
+    }
+
+    private ResponseEntity<ErrorResponse> unauthorized(String message, String path) {
+        ErrorResponse error = new ErrorResponse();
+        error.setTimestamp(LocalDateTime.now());
+        error.setStatus(HttpStatus.UNAUTHORIZED.value());
+        error.setError("Unauthorized");
+        error.setMessage(message);
+        error.setPath(path);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+    }
 }
@@ -0,0 +1,91 @@
+package com.product.catalog.controller;
+
+import com.product.catalog.cache.CategoryNode;
+import com.product.catalog.cache.CategoryTree;
+import com.product.catalog.dto.CategoryTreeResponse;
+import com.product.catalog.mapper.CategoryMapper;
+import com.product.catalog.service.CategoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * Category Controller
+ * Serves the category navigation tree from memory
+ */
+@RestController
+@RequestMapping("/api/v1/categories")
+@Tag(name = "Categories", description = "Category navigation")
+@SecurityRequirement(name = "bearerAuth")
+public class CategoryController {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryController.class);
+
+    private final CategoryService categoryService;
+    private final CategoryMapper categoryMapper;
+
+    public CategoryController(CategoryService categoryService, CategoryMapper categoryMapper) {
+        this.categoryService = categoryService;
+        this.categoryMapper = categoryMapper;
+    }
+
+    /**
+     * Full category tree with direct and subtree product counts.
+     * The ETag is the tree version, so unchanged trees are answered with 304 before any mapping.
+     */
+    @GetMapping("/tree")
+    @Operation(summary = "Get the category tree with product counts")
+    public ResponseEntity<List<CategoryTreeResponse>> getCategoryTree(WebRequest webRequest) {
+        log.debug("GET /api/v1/categories/tree");
+
+        CategoryTree tree = categoryService.getCategoryTree();
+        String etag = treeETag(tree);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(categoryMapper.nodesToResponses(tree.roots()));
+    }
+
+    /**
+     * One category and its descendants
+     */
+    @GetMapping("/{code}/tree")
+    @Operation(summary = "Get a category subtree with product counts")
+    public ResponseEntity<CategoryTreeResponse> getCategorySubtree(
+            @Parameter(description = "Category code", required = true)
+            @PathVariable String code,
+
+            WebRequest webRequest
+    ) {
+        log.debug("GET /api/v1/categories/{}/tree", code);
+
+        String etag = treeETag(categoryService.getCategoryTree());
+        CategoryNode node = categoryService.getCategorySubtree(code);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(categoryMapper.nodeToResponse(node));
+    }
+
+    private static String treeETag(CategoryTree tree) {
+        return "\"" + tree.version() + "\"";
+    }
+}
@@ -1,8 +1,17 @@
 package com.product.catalog.controller;
 
+import com.product.catalog.cache.ReferenceDataCache;
 import com.product.catalog.domain.ProductDomain;
+import com.product.catalog.domain.ProductFilter;
+import com.product.catalog.domain.ProductRevision;
 import com.product.catalog.dto.*;
 import com.product.catalog.mapper.ProductMapper;
+import com.product.catalog.pagination.ApproximateSlice;
+import com.product.catalog.pagination.CursorPage;
+import com.product.catalog.pagination.ProductSortField;
+import com.product.catalog.pagination.TotalCountMode;
+import com.product.catalog.search.ProductFacets;
+import com.product.catalog.service.ProductExportService;
 import com.product.catalog.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,12 +23,24 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -36,10 +57,17 @@ public class ProductController {
 
     private final ProductService productService;
     private final ProductMapper productMapper;
+    private final ProductExportService productExportService;
+    private final ReferenceDataCache referenceDataCache;
 
-    public ProductController(ProductService productService, ProductMapper productMapper) {
+    public ProductController(ProductService productService,
+                             ProductMapper productMapper,
+                             ProductExportService productExportService,
+                             ReferenceDataCache referenceDataCache) {
         this.productService = productService;
         this.productMapper = productMapper;
+        this.productExportService = productExportService;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -54,57 +82,342 @@ public class ProductController {
             @Parameter(description = "Number of items per page")
             @RequestParam(defaultValue = "20") int size,
 
-            @Parameter(description = "Sort field and direction (e.g., name,asc)")
+            @Parameter(description = "Sort field and direction: code, name or basePrice, then asc or desc (e.g., name,asc)")
             @RequestParam(defaultValue = "code,asc") String sort,
 
             @Parameter(description = "Filter by category code")
             @RequestParam(required = false) String categoryCode,
 
+            @Parameter(description = "Also match products in all subcategories of categoryCode")
+            @RequestParam(defaultValue = "false") boolean includeSubcategories,
+
             @Parameter(description = "Filter by stock availability")
-            @RequestParam(required = false) Boolean inStock
+            @RequestParam(required = false) Boolean inStock,
+
+            @Parameter(description = "Filter by catalog code")
+            @RequestParam(required = false) String catalogCode,
+
+            @Parameter(description = "Minimum base price (inclusive)")
+            @RequestParam(required = false) BigDecimal minPrice,
+
+            @Parameter(description = "Maximum base price (exclusive)")
+            @RequestParam(required = false) BigDecimal maxPrice,
+
+            @Parameter(description = "Filter by price currency (ISO 4217)")
+            @RequestParam(required = false) String currency,
+
+            @Parameter(description = "SKU prefix (case-sensitive)")
+            @RequestParam(required = false) String skuPrefix,
+
+            @Parameter(description = "Name prefix (case-insensitive)")
+            @RequestParam(required = false) String namePrefix,
+
+            @Parameter(description = "Pagination mode: offset (page numbers) or cursor (keyset)")
+            @RequestParam(defaultValue = "offset") String pagination,
+
+            @Parameter(description = "Opaque cursor from a previous response's nextCursor; implies cursor mode")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Total count: true (exact), false (none) or approximate")
+            @RequestParam(defaultValue = "true") String withTotal
     ) {
-        log.info("GET /api/v1/products - page: {}, size: {}, categoryCode: {}, inStock: {}",
-                page, size, categoryCode, inStock);
+        ProductFilter filter = new ProductFilter(
+                categoryCode, includeSubcategories, inStock, catalogCode,
+                minPrice, maxPrice, currency, skuPrefix, namePrefix
+        );
+        log.info("GET /api/v1/products - page: {}, size: {}, filter: {}, pagination: {}",
+                page, size, filter, pagination);
 
-        // Parse sort parameter
+        // Parse sort parameter; only fields backed by a (field, code) index are accepted
         String[] sortParams = sort.split(",");
+        ProductSortField sortField = ProductSortField.fromParameter(sortParams[0]);
         Sort.Direction direction = sortParams.length > 1 && "desc".equalsIgnoreCase(sortParams[1])
                 ? Sort.Direction.DESC : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
+
+        if ("cursor".equalsIgnoreCase(pagination) || cursor != null) {
+            return getProductsByCursor(filter, sortField, direction, cursor, size);
+        }
+
+        Pageable pageable = PageRequest.of(page, size, sortField.toSort(direction));
+        TotalCountMode totalMode = TotalCountMode.fromParameter(withTotal);
 
         // Get products with filters
-        Page<ProductDomain> productPage = productService.getProductsWithFilters(
-                categoryCode, inStock, pageable
-        );
+        Slice<ProductDomain> productPage = productService.getProductsWithFilters(filter, pageable, totalMode);
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (productPage instanceof Page<ProductDomain> counted) {
+            totalElements = counted.getTotalElements();
+            totalPages = counted.getTotalPages();
+        } else if (productPage instanceof ApproximateSlice<ProductDomain> estimated) {
+            // the estimate is only reported; last still comes from the fetched rows
+            totalElements = estimated.getApproximateTotal();
+            totalPages = estimated.getApproximateTotalPages();
+        }
+
+        // Spring answers 304 for a matching If-None-Match before the body is serialized
+        String etag = contentETag(productPage.getNumber() + ":" + productPage.getSize() + ":"
+                + totalElements + ":" + productPage.isLast(), productPage.getContent());
 
         // Convert to response
         ProductPageResponse response = new ProductPageResponse(
                 productMapper.domainsToResponses(productPage.getContent()),
                 productPage.getNumber(),
                 productPage.getSize(),
-                productPage.getTotalElements(),
-                productPage.getTotalPages(),
+                totalElements,
+                totalPages,
                 productPage.isLast()
         );
+        response.setTotalMode(totalMode);
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(response);
+    }
+
+    /**
+     * Cursor (keyset) mode of the listing: no page numbers and no total count,
+     * every page costs the same regardless of depth
+     */
+    private ResponseEntity<ProductPageResponse> getProductsByCursor(
+            ProductFilter filter,
+            ProductSortField sortField,
+            Sort.Direction direction,
+            String cursor,
+            int size
+    ) {
+        CursorPage<ProductDomain> productPage = productService.getProductsByCursor(
+                filter, sortField, direction, cursor, size
+        );
+
+        // nextCursor changes when rows are added after a full last page, even if its content does not
+        String etag = contentETag(cursor + ":" + size + ":" + productPage.nextCursor(), productPage.content());
+        ProductPageResponse response = new ProductPageResponse(
+                productMapper.domainsToResponses(productPage.content()),
+                null,
+                size,
+                null,
+                null,
+                !productPage.hasNext()
+        );
+        response.setNextCursor(productPage.nextCursor());
+        response.setTotalMode(TotalCountMode.NONE);
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(response);
+    }
+
+    /**
+     * Facet counts for the listing filters in one call, taking the same filters as the listing.
+     * Each facet ignores its own filter, so category counts show what switching category would return.
+     */
+    @GetMapping("/facets")
+    @Operation(summary = "Get category, stock and price-range counts for a listing")
+    public ResponseEntity<ProductFacetsResponse> getProductFacets(
+            @Parameter(description = "Filter by category code")
+            @RequestParam(required = false) String categoryCode,
+
+            @Parameter(description = "Also match products in all subcategories of categoryCode")
+            @RequestParam(defaultValue = "false") boolean includeSubcategories,
+
+            @Parameter(description = "Filter by stock availability")
+            @RequestParam(required = false) Boolean inStock,
+
+            @Parameter(description = "Filter by catalog code")
+            @RequestParam(required = false) String catalogCode,
+
+            @Parameter(description = "Minimum base price (inclusive)")
+            @RequestParam(required = false) BigDecimal minPrice,
+
+            @Parameter(description = "Maximum base price (exclusive)")
+            @RequestParam(required = false) BigDecimal maxPrice,
+
+            @Parameter(description = "Filter by price currency (ISO 4217)")
+            @RequestParam(required = false) String currency,
+
+            @Parameter(description = "SKU prefix (case-sensitive)")
+            @RequestParam(required = false) String skuPrefix,
+
+            @Parameter(description = "Name prefix (case-insensitive)")
+            @RequestParam(required = false) String namePrefix
+    ) {
+        ProductFilter filter = new ProductFilter(
+                categoryCode, includeSubcategories, inStock, catalogCode,
+                minPrice, maxPrice, currency, skuPrefix, namePrefix
+        );
+        log.info("GET /api/v1/products/facets - filter: {}", filter);
+
+        ProductFacets facets = productService.getProductFacets(filter);
+        ProductFacetsResponse response = new ProductFacetsResponse(
+                facets.total(),
+                facets.categories().stream()
+                        .map(facet -> new ProductFacetsResponse.FacetValue(facet.value(), facet.count()))
+                        .collect(Collectors.toList()),
+                facets.stock().stream()
+                        .map(facet -> new ProductFacetsResponse.FacetValue(facet.value(), facet.count()))
+                        .collect(Collectors.toList()),
+                facets.priceRanges().stream()
+                        .map(range -> new ProductFacetsResponse.PriceRange(
+                                range.currency(), range.from(), range.to(), range.count()))
+                        .collect(Collectors.toList())
+        );
+
+        // Counts are refreshed in the background, so a short private max-age loses nothing
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(30)).cachePrivate())
+                .body(response);
+    }
+
+    /**
+     * Search-as-you-type suggestions over code, name and SKU, served from memory.
+     * Tolerates typos; the last word may be incomplete.
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete product names and codes")
+    public ResponseEntity<List<ProductSuggestionResponse>> autocompleteProducts(
+            @Parameter(description = "Text typed so far (at least 2 characters)", required = true)
+            @RequestParam String q,
+
+            @Parameter(description = "Maximum number of suggestions (1-50)")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.debug("GET /api/v1/products/autocomplete - q: {}, limit: {}", q, limit);
+
+        List<ProductSuggestionResponse> suggestions = productService
+                .suggestProducts(q, Math.min(Math.max(limit, 1), 50)).stream()
+                .map(suggestion -> new ProductSuggestionResponse(suggestion.code(), suggestion.name(), suggestion.score()))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(30)).cachePrivate())
+                .body(suggestions);
+    }
+
+    /**
+     * Full-text search over name, description and SKU. Every term is prefix-matched;
+     * results are ranked by relevance and paged with nextCursor.
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search products")
+    public ResponseEntity<ProductPageResponse> searchProducts(
+            @Parameter(description = "Search text", required = true)
+            @RequestParam String q,
+
+            @Parameter(description = "Filter by category code")
+            @RequestParam(required = false) String categoryCode,
+
+            @Parameter(description = "Filter by stock availability")
+            @RequestParam(required = false) Boolean inStock,
+
+            @Parameter(description = "Opaque cursor from a previous response's nextCursor")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Number of items per page")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("GET /api/v1/products/search - q: {}, categoryCode: {}, inStock: {}, size: {}",
+                q, categoryCode, inStock, size);
+
+        CursorPage<ProductDomain> productPage = productService.searchProducts(q, categoryCode, inStock, cursor, size);
+
+        ProductPageResponse response = new ProductPageResponse(
+                productMapper.domainsToResponses(productPage.content()),
+                null,
+                size,
+                null,
+                null,
+                !productPage.hasNext()
+        );
+        response.setNextCursor(productPage.nextCursor());
+        response.setTotalMode(TotalCountMode.NONE);
 
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Get product by code
+     * Export products as newline-delimited JSON, one ProductResponse per line, ordered by code.
+     * The body is streamed while rows are read; resume an interrupted export with after=<last code>.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export products as NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @Parameter(description = "Filter by catalog code")
+            @RequestParam(required = false) String catalogCode,
+
+            @Parameter(description = "Filter by category code")
+            @RequestParam(required = false) String categoryCode,
+
+            @Parameter(description = "Resume after this product code (exclusive)")
+            @RequestParam(required = false) String after
+    ) {
+        log.info("GET /api/v1/products/export - catalogCode: {}, categoryCode: {}, after: {}",
+                catalogCode, categoryCode, after);
+
+        StreamingResponseBody body = outputStream ->
+                productExportService.exportProducts(catalogCode, categoryCode, after, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+
+    /**
+     * Get product by code.
+     * Conditional requests are answered from the product version and the breadcrumb version alone,
+     * before the entity is loaded.
      */
     @GetMapping("/{code}")
     @Operation(summary = "Get product by code")
     public ResponseEntity<ProductResponse> getProductByCode(
             @Parameter(description = "Product code", required = true)
-            @PathVariable String code
+            @PathVariable String code,
+
+            WebRequest webRequest
     ) {
         log.info("GET /api/v1/products/{}", code);
 
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> etag = productService.getProductRevision(code).map(this::productETag);
+            if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag.get())
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+        }
+
         ProductDomain productDomain = productService.getProductByCode(code);
+        String etag = productETag(productDomain.getRevision());
         ProductResponse response = productMapper.domainToResponse(productDomain);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(response);
+    }
+
+    /**
+     * Fetch many products by code in one call.
+     * Results follow the request order; codes that do not exist are returned with found=false.
+     */
+    @PostMapping("/lookup")
+    @Operation(summary = "Get multiple products by code")
+    public ResponseEntity<ProductLookupResponse> lookupProducts(
+            @Valid @RequestBody ProductLookupRequest request
+    ) {
+        log.info("POST /api/v1/products/lookup - count: {}", request.getCodes().size());
+
+        Map<String, ProductDomain> products = productService.getProductsByCodes(request.getCodes());
+        List<ProductLookupResponse.Result> results = request.getCodes().stream()
+                .map(code -> new ProductLookupResponse.Result(
+                        code,
+                        products.containsKey(code) ? productMapper.domainToResponse(products.get(code)) : null))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(new ProductLookupResponse(results));
     }
 
     /**
@@ -159,9 +472,12 @@ public class ProductController {
 
         ProductDomain productDomain = productMapper.updateRequestToDomain(request);
         ProductDomain updatedProduct = productService.updateProduct(code, productDomain);
+        String etag = productETag(updatedProduct.getRevision());
         ProductResponse response = productMapper.domainToResponse(updatedProduct);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(response);
     }
 
     /**
@@ -178,9 +494,12 @@ public class ProductController {
         log.info("PATCH /api/v1/products/{}", code);
 
         ProductDomain updatedProduct = productService.patchProduct(code, request);
+        String etag = productETag(updatedProduct.getRevision());
         ProductResponse response = productMapper.domainToResponse(updatedProduct);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(response);
     }
 
     /**
@@ -213,4 +532,27 @@ public class ProductController {
 
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Strong ETag of a single product, derived from its optimistic-locking version and rating revision,
+     * plus the breadcrumb version because categoryPath comes from the reference-data snapshot.
+     * Computed before the response is mapped, so a concurrent category change can leave the ETag
+     * older than the body but never newer.
+     */
+    private String productETag(ProductRevision revision) {
+        return "\"" + revision.token() + "-" + referenceDataCache.current().getBreadcrumbVersion() + "\"";
+    }
+
+    /**
+     * Strong ETag of a listing: digest of the page position and paging state, the breadcrumb version
+     * and the code and revision of every row. Computed before the response is mapped, like {@link #productETag}.
+     */
+    private String contentETag(String position, List<ProductDomain> content) {
+        StringBuilder fingerprint = new StringBuilder(position)
+                .append('|').append(referenceDataCache.current().getBreadcrumbVersion());
+        for (ProductDomain product : content) {
+            fingerprint.append('|').append(product.getCode()).append('@').append(product.getRevision().token());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(fingerprint.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
 }
@@ -0,0 +1,122 @@
+package com.product.catalog.controller;
+
+import com.product.catalog.dto.ProductImportJobResponse;
+import com.product.catalog.entity.ProductImportJob;
+import com.product.catalog.exception.BusinessValidationException;
+import com.product.catalog.exception.ProductImportFailedException;
+import com.product.catalog.importer.ImportRejection;
+import com.product.catalog.importer.ProductImportFormat;
+import com.product.catalog.mapper.ProductImportMapper;
+import com.product.catalog.service.ProductImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Product Import Controller
+ * Bulk loads products from CSV or NDJSON and reports progress and rejected rows
+ */
+@RestController
+@RequestMapping("/api/v1/products/import")
+@Tag(name = "Product Import", description = "Bulk product import")
+@SecurityRequirement(name = "bearerAuth")
+public class ProductImportController {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportController.class);
+
+    private final ProductImportService productImportService;
+    private final ProductImportMapper productImportMapper;
+
+    public ProductImportController(ProductImportService productImportService, ProductImportMapper productImportMapper) {
+        this.productImportService = productImportService;
+        this.productImportMapper = productImportMapper;
+    }
+
+    /**
+     * Import products. The body is streamed, so files of any size can be sent.
+     * Pass the jobId of a failed import with the same file to resume it. A failed import answers
+     * with the job (status FAILED) and its Location, so the client always learns the jobId.
+     */
+    @PostMapping(consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Import products from CSV or NDJSON")
+    public ResponseEntity<ProductImportJobResponse> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+
+            @Parameter(description = "Resume this import job from its last committed chunk")
+            @RequestParam(required = false) String jobId,
+
+            InputStream body
+    ) {
+        log.info("POST /api/v1/products/import - contentType: {}, jobId: {}", contentType, jobId);
+
+        ProductImportFormat format = ProductImportFormat.fromContentType(contentType);
+        try {
+            ProductImportJob job = productImportService.importProducts(format, jobId, body);
+            return ResponseEntity.ok()
+                    .location(jobLocation(job))
+                    .body(productImportMapper.toResponse(job));
+        } catch (ProductImportFailedException ex) {
+            // Malformed input is the client's to fix; anything else is on our side
+            HttpStatus status = ex.getCause() instanceof BusinessValidationException
+                    ? HttpStatus.BAD_REQUEST
+                    : HttpStatus.INTERNAL_SERVER_ERROR;
+            return ResponseEntity.status(status)
+                    .location(jobLocation(ex.getJob()))
+                    .body(productImportMapper.toResponse(ex.getJob()));
+        }
+    }
+
+    /**
+     * Get import progress
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get import job progress")
+    public ResponseEntity<ProductImportJobResponse> getImportJob(
+            @Parameter(description = "Import job id", required = true)
+            @PathVariable String jobId
+    ) {
+        log.info("GET /api/v1/products/import/{}", jobId);
+
+        return ResponseEntity.ok(productImportMapper.toResponse(productImportService.getImportJob(jobId)));
+    }
+
+    /**
+     * Get rejected rows in file order
+     */
+    @GetMapping("/{jobId}/rejections")
+    @Operation(summary = "Get rows rejected by an import job")
+    public ResponseEntity<List<ImportRejection>> getRejections(
+            @Parameter(description = "Import job id", required = true)
+            @PathVariable String jobId,
+
+            @Parameter(description = "Return rejections after this line number")
+            @RequestParam(defaultValue = "0") long afterLine,
+
+            @Parameter(description = "Maximum number of rejections to return")
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        log.info("GET /api/v1/products/import/{}/rejections - afterLine: {}, size: {}", jobId, afterLine, size);
+
+        return ResponseEntity.ok(productImportService.getRejections(jobId, afterLine, Math.min(Math.max(size, 1), 1000)));
+    }
+
+    private static URI jobLocation(ProductImportJob job) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/products/import/{jobId}")
+                .buildAndExpand(job.getId())
+                .toUri();
+    }
+}
@@ -0,0 +1,109 @@
+package com.product.catalog.controller;
+
+import com.product.catalog.domain.ReviewDomain;
+import com.product.catalog.dto.CreateReviewRequest;
+import com.product.catalog.dto.ReviewPageResponse;
+import com.product.catalog.dto.ReviewResponse;
+import com.product.catalog.mapper.ReviewMapper;
+import com.product.catalog.pagination.CursorPage;
+import com.product.catalog.service.ReviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Review Controller
+ * Handles the reviews of a product
+ */
+@RestController
+@RequestMapping("/api/v1/products/{code}/reviews")
+@Tag(name = "Reviews", description = "Product review management")
+@SecurityRequirement(name = "bearerAuth")
+public class ReviewController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewController.class);
+
+    private final ReviewService reviewService;
+    private final ReviewMapper reviewMapper;
+
+    public ReviewController(ReviewService reviewService, ReviewMapper reviewMapper) {
+        this.reviewService = reviewService;
+        this.reviewMapper = reviewMapper;
+    }
+
+    /**
+     * List a product's reviews, newest first, paged with nextCursor
+     */
+    @GetMapping
+    @Operation(summary = "List reviews of a product")
+    public ResponseEntity<ReviewPageResponse> getReviews(
+            @Parameter(description = "Product code", required = true)
+            @PathVariable String code,
+
+            @Parameter(description = "Only reviews with this rating (1-5)")
+            @RequestParam(required = false) Integer rating,
+
+            @Parameter(description = "Opaque cursor from a previous response's nextCursor")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Number of reviews per page (max 100)")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("GET /api/v1/products/{}/reviews - rating: {}, size: {}", code, rating, size);
+
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        CursorPage<ReviewDomain> reviewPage = reviewService.getReviews(code, rating, cursor, pageSize);
+
+        return ResponseEntity.ok(new ReviewPageResponse(
+                reviewPage.content().stream().map(reviewMapper::domainToResponse).toList(),
+                pageSize,
+                reviewPage.nextCursor()
+        ));
+    }
+
+    /**
+     * Add a review to a product. The review is queued and written within moments; 503 with
+     * Retry-After when the ingestion queue is full.
+     */
+    @PostMapping
+    @Operation(summary = "Add a review to a product")
+    public ResponseEntity<ReviewResponse> addReview(
+            @Parameter(description = "Product code", required = true)
+            @PathVariable String code,
+
+            @Valid @RequestBody CreateReviewRequest request
+    ) {
+        log.info("POST /api/v1/products/{}/reviews", code);
+
+        ReviewDomain reviewDomain = reviewMapper.createRequestToDomain(request);
+        ReviewDomain created = reviewService.addReview(code, reviewDomain);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reviewMapper.domainToResponse(created));
+    }
+
+    /**
+     * Delete a review of a product
+     */
+    @DeleteMapping("/{reviewId}")
+    @Operation(summary = "Delete a review of a product")
+    public ResponseEntity<Void> deleteReview(
+            @Parameter(description = "Product code", required = true)
+            @PathVariable String code,
+
+            @Parameter(description = "Review id", required = true)
+            @PathVariable String reviewId
+    ) {
+        log.info("DELETE /api/v1/products/{}/reviews/{}", code, reviewId);
+
+        reviewService.deleteReview(code, reviewId);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.product.catalog.controller;
+
+import com.product.catalog.dto.ChangePasswordRequest;
+import com.product.catalog.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * User Controller
+ * Self-service account operations for the authenticated user
+ */
+@RestController
+@RequestMapping("/api/v1/users")
+@Tag(name = "Users", description = "Account management")
+@SecurityRequirement(name = "bearerAuth")
+public class UserController {
+
+    private static final Logger log = LoggerFactory.getLogger(UserController.class);
+
+    private final UserService userService;
+
+    public UserController(UserService userService) {
+        this.userService = userService;
+    }
+
+    /**
+     * Change the caller's password; the cached credentials are evicted on every replica
+     */
+    @PutMapping("/me/password")
+    @Operation(summary = "Change own password")
+    public ResponseEntity<Void> changePassword(
+            @AuthenticationPrincipal UserDetails principal,
+            @Valid @RequestBody ChangePasswordRequest request
+    ) {
+        log.info("PUT /api/v1/users/me/password - user: {}", principal.getUsername());
+
+        userService.changePassword(principal.getUsername(), request.getCurrentPassword(), request.getNewPassword());
+
+        return ResponseEntity.noContent().build();
+    }
+}
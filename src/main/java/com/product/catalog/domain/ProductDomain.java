@@ -12,6 +12,8 @@ public class ProductDomain {
     private String stockKeepingUnit;
     private String categoryCode;
     private String catalogCode;
+    private RatingDomain rating;
+    private Long version;
 
     public ProductDomain() {
     }
@@ -91,6 +93,29 @@ public class ProductDomain {
         this.catalogCode = catalogCode;
     }
 
+    public RatingDomain getRating() {
+        return rating;
+    }
+
+    public void setRating(RatingDomain rating) {
+        this.rating = rating;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Version plus rating revision: changes whenever the product or its review aggregates change
+     */
+    public ProductRevision getRevision() {
+        return new ProductRevision(version, rating != null ? rating.getRevision() : null);
+    }
+
     public boolean isAvailableForPurchase() {
         return isInStock != null && isInStock && basePrice != null && basePrice.isValid();
     }
@@ -122,6 +147,8 @@ public class ProductDomain {
         private String stockKeepingUnit;
         private String categoryCode;
         private String catalogCode;
+        private RatingDomain rating;
+        private Long version;
 
         public Builder code(String code) { this.code = code; return this; }
         public Builder name(String name) { this.name = name; return this; }
@@ -131,9 +158,14 @@ public class ProductDomain {
         public Builder stockKeepingUnit(String sku) { this.stockKeepingUnit = sku; return this; }
         public Builder categoryCode(String categoryCode) { this.categoryCode = categoryCode; return this; }
         public Builder catalogCode(String catalogCode) { this.catalogCode = catalogCode; return this; }
+        public Builder rating(RatingDomain rating) { this.rating = rating; return this; }
+        public Builder version(Long version) { this.version = version; return this; }
 
         public ProductDomain build() {
-            return new ProductDomain(code, name, description, basePrice, isInStock, stockKeepingUnit, categoryCode, catalogCode);
+            ProductDomain domain = new ProductDomain(code, name, description, basePrice, isInStock, stockKeepingUnit, categoryCode, catalogCode);
+            domain.setRating(rating);
+            domain.setVersion(version);
+            return domain;
         }
     }
 
@@ -142,12 +174,12 @@ public class ProductDomain {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ProductDomain that = (ProductDomain) o;
-        return Objects.equals(code, that.code) && Objects.equals(name, that.name) && Objects.equals(description, that.description) && Objects.equals(basePrice, that.basePrice) && Objects.equals(isInStock, that.isInStock) && Objects.equals(stockKeepingUnit, that.stockKeepingUnit) && Objects.equals(categoryCode, that.categoryCode) && Objects.equals(catalogCode, that.catalogCode);
+        return Objects.equals(code, that.code) && Objects.equals(name, that.name) && Objects.equals(description, that.description) && Objects.equals(basePrice, that.basePrice) && Objects.equals(isInStock, that.isInStock) && Objects.equals(stockKeepingUnit, that.stockKeepingUnit) && Objects.equals(categoryCode, that.categoryCode) && Objects.equals(catalogCode, that.catalogCode) && Objects.equals(rating, that.rating) && Objects.equals(version, that.version);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(code, name, description, basePrice, isInStock, stockKeepingUnit, categoryCode, catalogCode);
+        return Objects.hash(code, name, description, basePrice, isInStock, stockKeepingUnit, categoryCode, catalogCode, rating, version);
     }
 
     @Override
@@ -161,6 +193,8 @@ public class ProductDomain {
                 ", stockKeepingUnit='" + stockKeepingUnit + '\'' +
                 ", categoryCode='" + categoryCode + '\'' +
                 ", catalogCode='" + catalogCode + '\'' +
+                ", rating=" + rating +
+                ", version=" + version +
                 '}';
     }
 }
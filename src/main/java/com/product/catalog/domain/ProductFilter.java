@@ -0,0 +1,56 @@
+package com.product.catalog.domain;
+
+import com.product.catalog.exception.BusinessValidationException;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Optional product listing criteria; null criteria are not applied.
+ * With includeSubcategories the category matches its whole subtree.
+ * The price range is [minPrice, maxPrice), the same shape as the price facets.
+ */
+public record ProductFilter(String categoryCode,
+                            boolean includeSubcategories,
+                            Boolean inStock,
+                            String catalogCode,
+                            BigDecimal minPrice,
+                            BigDecimal maxPrice,
+                            String currency,
+                            String skuPrefix,
+                            String namePrefix) {
+
+    public ProductFilter {
+        categoryCode = blankToNull(categoryCode);
+        catalogCode = blankToNull(catalogCode);
+        currency = currency == null || currency.isBlank() ? null : currency.trim().toUpperCase(Locale.ROOT);
+        skuPrefix = blankToNull(skuPrefix);
+        namePrefix = blankToNull(namePrefix);
+
+        if (minPrice != null && minPrice.signum() < 0) {
+            throw new BusinessValidationException("minPrice must not be negative");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) >= 0) {
+            throw new BusinessValidationException("minPrice must be less than maxPrice");
+        }
+    }
+
+    /**
+     * Filter on category and stock only
+     */
+    public static ProductFilter of(String categoryCode, Boolean inStock) {
+        return new ProductFilter(categoryCode, false, inStock, null, null, null, null, null, null);
+    }
+
+    public static ProductFilter none() {
+        return of(null, null);
+    }
+
+    public boolean isEmpty() {
+        return this.equals(none());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
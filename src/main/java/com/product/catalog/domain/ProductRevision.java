@@ -0,0 +1,12 @@
+package com.product.catalog.domain;
+
+/**
+ * Identifies one state of a product representation: the optimistic-lock version plus the
+ * revision of its review aggregates, which change without bumping the version.
+ */
+public record ProductRevision(Long version, Long ratingRevision) {
+
+    public String token() {
+        return (version != null ? version : 0L) + "." + (ratingRevision != null ? ratingRevision : 0L);
+    }
+}
@@ -0,0 +1,56 @@
+package com.product.catalog.domain;
+
+/**
+ * Change to a product's review aggregates: reviews added and removed, per star rating.
+ * Accumulates any number of review writes so they can be applied with one UPDATE.
+ */
+public final class RatingDelta {
+
+    private final long[] starCounts = new long[5];
+
+    public RatingDelta add(int rating) {
+        starCounts[index(rating)]++;
+        return this;
+    }
+
+    public RatingDelta remove(int rating) {
+        starCounts[index(rating)]--;
+        return this;
+    }
+
+    public long starCount(int rating) {
+        return starCounts[index(rating)];
+    }
+
+    public long reviewCount() {
+        long count = 0;
+        for (long starCount : starCounts) {
+            count += starCount;
+        }
+        return count;
+    }
+
+    public long ratingSum() {
+        long sum = 0;
+        for (int i = 0; i < starCounts.length; i++) {
+            sum += (i + 1) * starCounts[i];
+        }
+        return sum;
+    }
+
+    public boolean isEmpty() {
+        for (long starCount : starCounts) {
+            if (starCount != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int index(int rating) {
+        if (rating < 1 || rating > 5) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5: " + rating);
+        }
+        return rating - 1;
+    }
+}
@@ -0,0 +1,127 @@
+package com.product.catalog.domain;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Review aggregates of a product: count, sum, per-star histogram and the stored average.
+ */
+public class RatingDomain {
+
+    private Long reviewCount;
+    private Long ratingSum;
+    private Long oneStarCount;
+    private Long twoStarCount;
+    private Long threeStarCount;
+    private Long fourStarCount;
+    private Long fiveStarCount;
+    private BigDecimal average;
+    private Long revision;
+
+    public RatingDomain() {
+    }
+
+    public Long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(Long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public Long getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(Long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public Long getOneStarCount() {
+        return oneStarCount;
+    }
+
+    public void setOneStarCount(Long oneStarCount) {
+        this.oneStarCount = oneStarCount;
+    }
+
+    public Long getTwoStarCount() {
+        return twoStarCount;
+    }
+
+    public void setTwoStarCount(Long twoStarCount) {
+        this.twoStarCount = twoStarCount;
+    }
+
+    public Long getThreeStarCount() {
+        return threeStarCount;
+    }
+
+    public void setThreeStarCount(Long threeStarCount) {
+        this.threeStarCount = threeStarCount;
+    }
+
+    public Long getFourStarCount() {
+        return fourStarCount;
+    }
+
+    public void setFourStarCount(Long fourStarCount) {
+        this.fourStarCount = fourStarCount;
+    }
+
+    public Long getFiveStarCount() {
+        return fiveStarCount;
+    }
+
+    public void setFiveStarCount(Long fiveStarCount) {
+        this.fiveStarCount = fiveStarCount;
+    }
+
+    public BigDecimal getAverage() {
+        return average;
+    }
+
+    public void setAverage(BigDecimal average) {
+        this.average = average;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
+    public boolean hasReviews() {
+        return reviewCount != null && reviewCount > 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RatingDomain that = (RatingDomain) o;
+        return Objects.equals(reviewCount, that.reviewCount) && Objects.equals(ratingSum, that.ratingSum) && Objects.equals(oneStarCount, that.oneStarCount) && Objects.equals(twoStarCount, that.twoStarCount) && Objects.equals(threeStarCount, that.threeStarCount) && Objects.equals(fourStarCount, that.fourStarCount) && Objects.equals(fiveStarCount, that.fiveStarCount) && Objects.equals(average, that.average) && Objects.equals(revision, that.revision);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reviewCount, ratingSum, oneStarCount, twoStarCount, threeStarCount, fourStarCount, fiveStarCount, average, revision);
+    }
+
+    @Override
+    public String toString() {
+        return "RatingDomain{" +
+                "reviewCount=" + reviewCount +
+                ", ratingSum=" + ratingSum +
+                ", oneStarCount=" + oneStarCount +
+                ", twoStarCount=" + twoStarCount +
+                ", threeStarCount=" + threeStarCount +
+                ", fourStarCount=" + fourStarCount +
+                ", fiveStarCount=" + fiveStarCount +
+                ", average=" + average +
+                ", revision=" + revision +
+                '}';
+    }
+}
@@ -0,0 +1,78 @@
+package com.product.catalog.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class ReviewDomain {
+
+    private String id;
+    private String productCode;
+    private Integer rating;
+    private String comment;
+    private Instant createdDate;
+
+    public ReviewDomain() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getProductCode() {
+        return productCode;
+    }
+
+    public void setProductCode(String productCode) {
+        this.productCode = productCode;
+    }
+
+    public Integer getRating() {
+        return rating;
+    }
+
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReviewDomain that = (ReviewDomain) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ReviewDomain{" +
+                "id='" + id + '\'' +
+                ", productCode='" + productCode + '\'' +
+                ", rating=" + rating +
+                '}';
+    }
+}
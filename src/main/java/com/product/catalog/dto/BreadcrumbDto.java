@@ -0,0 +1,22 @@
+package com.product.catalog.dto;
+
+/**
+ * DTO for one category on a product's breadcrumb path
+ */
+public class BreadcrumbDto {
+
+    private String code;
+    private String name;
+
+    public BreadcrumbDto() {}
+
+    public BreadcrumbDto(String code, String name) {
+        this.code = code;
+        this.name = name;
+    }
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
@@ -0,0 +1,31 @@
+package com.product.catalog.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a category with its product counts and subcategories
+ */
+public class CategoryTreeResponse {
+
+    private String code;
+    private String name;
+    private String description;
+    private Long productCount;
+    private Long totalProductCount;
+    private List<CategoryTreeResponse> children;
+
+    public CategoryTreeResponse() {}
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    public Long getProductCount() { return productCount; }
+    public void setProductCount(Long productCount) { this.productCount = productCount; }
+    public Long getTotalProductCount() { return totalProductCount; }
+    public void setTotalProductCount(Long totalProductCount) { this.totalProductCount = totalProductCount; }
+    public List<CategoryTreeResponse> getChildren() { return children; }
+    public void setChildren(List<CategoryTreeResponse> children) { this.children = children; }
+}
@@ -11,6 +11,8 @@ public class LoginResponse {
 
     private Long expiresIn;
 
+    private String refreshToken;
+
     public LoginResponse() {
     }
 
@@ -43,4 +45,12 @@ public class LoginResponse {
     public void setExpiresIn(Long expiresIn) {
         this.expiresIn = expiresIn;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
 }
@@ -0,0 +1,83 @@
+package com.product.catalog.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for listing facet counts
+ */
+public class ProductFacetsResponse {
+
+    private Long total;
+    private List<FacetValue> categories;
+    private List<FacetValue> stock;
+    private List<PriceRange> priceRanges;
+
+    public ProductFacetsResponse() {}
+
+    public ProductFacetsResponse(Long total, List<FacetValue> categories, List<FacetValue> stock, List<PriceRange> priceRanges) {
+        this.total = total;
+        this.categories = categories;
+        this.stock = stock;
+        this.priceRanges = priceRanges;
+    }
+
+    public Long getTotal() { return total; }
+    public void setTotal(Long total) { this.total = total; }
+    public List<FacetValue> getCategories() { return categories; }
+    public void setCategories(List<FacetValue> categories) { this.categories = categories; }
+    public List<FacetValue> getStock() { return stock; }
+    public void setStock(List<FacetValue> stock) { this.stock = stock; }
+    public List<PriceRange> getPriceRanges() { return priceRanges; }
+    public void setPriceRanges(List<PriceRange> priceRanges) { this.priceRanges = priceRanges; }
+
+    /**
+     * A facet value and the number of products it would return
+     */
+    public static class FacetValue {
+
+        private String value;
+        private Long count;
+
+        public FacetValue() {}
+
+        public FacetValue(String value, Long count) {
+            this.value = value;
+            this.count = count;
+        }
+
+        public String getValue() { return value; }
+        public void setValue(String value) { this.value = value; }
+        public Long getCount() { return count; }
+        public void setCount(Long count) { this.count = count; }
+    }
+
+    /**
+     * Products priced in [from, to) for one currency; a missing bound is open-ended
+     */
+    public static class PriceRange {
+
+        private String currency;
+        private BigDecimal from;
+        private BigDecimal to;
+        private Long count;
+
+        public PriceRange() {}
+
+        public PriceRange(String currency, BigDecimal from, BigDecimal to, Long count) {
+            this.currency = currency;
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+
+        public String getCurrency() { return currency; }
+        public void setCurrency(String currency) { this.currency = currency; }
+        public BigDecimal getFrom() { return from; }
+        public void setFrom(BigDecimal from) { this.from = from; }
+        public BigDecimal getTo() { return to; }
+        public void setTo(BigDecimal to) { this.to = to; }
+        public Long getCount() { return count; }
+        public void setCount(Long count) { this.count = count; }
+    }
+}
@@ -0,0 +1,48 @@
+package com.product.catalog.dto;
+
+import com.product.catalog.entity.ImportStatus;
+
+import java.time.Instant;
+
+/**
+ * DTO for bulk import progress
+ */
+public class ProductImportJobResponse {
+
+    private String jobId;
+    private String format;
+    private ImportStatus status;
+    private Integer chunkSize;
+    private Long committedChunks;
+    private Long rowsProcessed;
+    private Long rowsImported;
+    private Long rowsRejected;
+    private String errorMessage;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    public ProductImportJobResponse() {}
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+    public String getFormat() { return format; }
+    public void setFormat(String format) { this.format = format; }
+    public ImportStatus getStatus() { return status; }
+    public void setStatus(ImportStatus status) { this.status = status; }
+    public Integer getChunkSize() { return chunkSize; }
+    public void setChunkSize(Integer chunkSize) { this.chunkSize = chunkSize; }
+    public Long getCommittedChunks() { return committedChunks; }
+    public void setCommittedChunks(Long committedChunks) { this.committedChunks = committedChunks; }
+    public Long getRowsProcessed() { return rowsProcessed; }
+    public void setRowsProcessed(Long rowsProcessed) { this.rowsProcessed = rowsProcessed; }
+    public Long getRowsImported() { return rowsImported; }
+    public void setRowsImported(Long rowsImported) { this.rowsImported = rowsImported; }
+    public Long getRowsRejected() { return rowsRejected; }
+    public void setRowsRejected(Long rowsRejected) { this.rowsRejected = rowsRejected; }
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
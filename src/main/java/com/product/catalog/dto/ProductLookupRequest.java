@@ -0,0 +1,26 @@
+package com.product.catalog.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for fetching many products by code in one request
+ */
+public class ProductLookupRequest {
+
+    @NotEmpty(message = "At least one product code is required")
+    @Size(max = 500, message = "At most 500 product codes can be looked up at once")
+    private List<@NotBlank(message = "Product code must not be blank") String> codes;
+
+    public ProductLookupRequest() {}
+
+    public ProductLookupRequest(List<String> codes) {
+        this.codes = codes;
+    }
+
+    public List<String> getCodes() { return codes; }
+    public void setCodes(List<String> codes) { this.codes = codes; }
+}
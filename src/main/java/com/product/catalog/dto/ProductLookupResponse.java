@@ -0,0 +1,53 @@
+package com.product.catalog.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a multi-get response: one result per requested code, in request order
+ */
+public class ProductLookupResponse {
+
+    private List<Result> results;
+    private Integer found;
+    private Integer notFound;
+
+    public ProductLookupResponse() {}
+
+    public ProductLookupResponse(List<Result> results) {
+        this.results = results;
+        this.found = (int) results.stream().filter(Result::getFound).count();
+        this.notFound = results.size() - this.found;
+    }
+
+    public List<Result> getResults() { return results; }
+    public void setResults(List<Result> results) { this.results = results; }
+    public Integer getFound() { return found; }
+    public void setFound(Integer found) { this.found = found; }
+    public Integer getNotFound() { return notFound; }
+    public void setNotFound(Integer notFound) { this.notFound = notFound; }
+
+    /**
+     * A requested code with its product, or found=false and no product
+     */
+    public static class Result {
+
+        private String code;
+        private Boolean found;
+        private ProductResponse product;
+
+        public Result() {}
+
+        public Result(String code, ProductResponse product) {
+            this.code = code;
+            this.found = product != null;
+            this.product = product;
+        }
+
+        public String getCode() { return code; }
+        public void setCode(String code) { this.code = code; }
+        public Boolean getFound() { return found; }
+        public void setFound(Boolean found) { this.found = found; }
+        public ProductResponse getProduct() { return product; }
+        public void setProduct(ProductResponse product) { this.product = product; }
+    }
+}
@@ -1,5 +1,7 @@
 package com.product.catalog.dto;
 
+import com.product.catalog.pagination.TotalCountMode;
+
 import java.util.List;
 import java.util.Objects;
 
@@ -14,6 +16,8 @@ public class ProductPageResponse {
     private Long totalElements;
     private Integer totalPages;
     private Boolean last;
+    private String nextCursor;
+    private TotalCountMode totalMode;
 
     public ProductPageResponse() {}
 
@@ -38,17 +42,21 @@ public class ProductPageResponse {
     public void setTotalPages(Integer totalPages) { this.totalPages = totalPages; }
     public Boolean getLast() { return last; }
     public void setLast(Boolean last) { this.last = last; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    public TotalCountMode getTotalMode() { return totalMode; }
+    public void setTotalMode(TotalCountMode totalMode) { this.totalMode = totalMode; }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ProductPageResponse that = (ProductPageResponse) o;
-        return Objects.equals(content, that.content) && Objects.equals(page, that.page) && Objects.equals(size, that.size) && Objects.equals(totalElements, that.totalElements) && Objects.equals(totalPages, that.totalPages) && Objects.equals(last, that.last);
+        return Objects.equals(content, that.content) && Objects.equals(page, that.page) && Objects.equals(size, that.size) && Objects.equals(totalElements, that.totalElements) && Objects.equals(totalPages, that.totalPages) && Objects.equals(last, that.last) && Objects.equals(nextCursor, that.nextCursor) && Objects.equals(totalMode, that.totalMode);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(content, page, size, totalElements, totalPages, last);
+        return Objects.hash(content, page, size, totalElements, totalPages, last, nextCursor, totalMode);
     }
 }
@@ -1,5 +1,7 @@
 package com.product.catalog.dto;
 
+import java.util.List;
+
 /**
  * DTO for product response
  */
@@ -13,6 +15,8 @@ public class ProductResponse {
     private String stockKeepingUnit;
     private String categoryCode;
     private String catalogCode;
+    private List<BreadcrumbDto> categoryPath;
+    private RatingDto rating;
 
     public ProductResponse() {}
 
@@ -43,4 +47,8 @@ public class ProductResponse {
     public void setCategoryCode(String categoryCode) { this.categoryCode = categoryCode; }
     public String getCatalogCode() { return catalogCode; }
     public void setCatalogCode(String catalogCode) { this.catalogCode = catalogCode; }
+    public List<BreadcrumbDto> getCategoryPath() { return categoryPath; }
+    public void setCategoryPath(List<BreadcrumbDto> categoryPath) { this.categoryPath = categoryPath; }
+    public RatingDto getRating() { return rating; }
+    public void setRating(RatingDto rating) { this.rating = rating; }
 }
@@ -0,0 +1,26 @@
+package com.product.catalog.dto;
+
+/**
+ * DTO for an autocomplete suggestion
+ */
+public class ProductSuggestionResponse {
+
+    private String code;
+    private String name;
+    private Float score;
+
+    public ProductSuggestionResponse() {}
+
+    public ProductSuggestionResponse(String code, String name, Float score) {
+        this.code = code;
+        this.name = name;
+        this.score = score;
+    }
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public Float getScore() { return score; }
+    public void setScore(Float score) { this.score = score; }
+}
@@ -0,0 +1,34 @@
+package com.product.catalog.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a product's review summary; average is null until the first review
+ */
+public class RatingDto {
+
+    private BigDecimal average;
+    private Long reviewCount;
+    private Long oneStarCount;
+    private Long twoStarCount;
+    private Long threeStarCount;
+    private Long fourStarCount;
+    private Long fiveStarCount;
+
+    public RatingDto() {}
+
+    public BigDecimal getAverage() { return average; }
+    public void setAverage(BigDecimal average) { this.average = average; }
+    public Long getReviewCount() { return reviewCount; }
+    public void setReviewCount(Long reviewCount) { this.reviewCount = reviewCount; }
+    public Long getOneStarCount() { return oneStarCount; }
+    public void setOneStarCount(Long oneStarCount) { this.oneStarCount = oneStarCount; }
+    public Long getTwoStarCount() { return twoStarCount; }
+    public void setTwoStarCount(Long twoStarCount) { this.twoStarCount = twoStarCount; }
+    public Long getThreeStarCount() { return threeStarCount; }
+    public void setThreeStarCount(Long threeStarCount) { this.threeStarCount = threeStarCount; }
+    public Long getFourStarCount() { return fourStarCount; }
+    public void setFourStarCount(Long fourStarCount) { this.fourStarCount = fourStarCount; }
+    public Long getFiveStarCount() { return fiveStarCount; }
+    public void setFiveStarCount(Long fiveStarCount) { this.fiveStarCount = fiveStarCount; }
+}
@@ -0,0 +1,21 @@
+package com.product.catalog.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO for exchanging a refresh token for a new access token
+ */
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+
+    public RefreshTokenRequest() {}
+
+    public RefreshTokenRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
+}
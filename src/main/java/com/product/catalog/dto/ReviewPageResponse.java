@@ -0,0 +1,32 @@
+package com.product.catalog.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset page of a product's reviews; nextCursor is null on the last page
+ */
+public class ReviewPageResponse {
+
+    private List<ReviewResponse> content;
+    private Integer size;
+    private String nextCursor;
+    private Boolean last;
+
+    public ReviewPageResponse() {}
+
+    public ReviewPageResponse(List<ReviewResponse> content, Integer size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.last = nextCursor == null;
+    }
+
+    public List<ReviewResponse> getContent() { return content; }
+    public void setContent(List<ReviewResponse> content) { this.content = content; }
+    public Integer getSize() { return size; }
+    public void setSize(Integer size) { this.size = size; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    public Boolean getLast() { return last; }
+    public void setLast(Boolean last) { this.last = last; }
+}
@@ -0,0 +1,28 @@
+package com.product.catalog.dto;
+
+import java.time.Instant;
+
+/**
+ * DTO for a single product review
+ */
+public class ReviewResponse {
+
+    private String id;
+    private String productCode;
+    private Integer rating;
+    private String comment;
+    private Instant createdDate;
+
+    public ReviewResponse() {}
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getProductCode() { return productCode; }
+    public void setProductCode(String productCode) { this.productCode = productCode; }
+    public Integer getRating() { return rating; }
+    public void setRating(Integer rating) { this.rating = rating; }
+    public String getComment() { return comment; }
+    public void setComment(String comment) { this.comment = comment; }
+    public Instant getCreatedDate() { return createdDate; }
+    public void setCreatedDate(Instant createdDate) { this.createdDate = createdDate; }
+}
@@ -0,0 +1,21 @@
+package com.product.catalog.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO for revoking an access or refresh token
+ */
+public class RevokeTokenRequest {
+
+    @NotBlank(message = "Token is required")
+    private String token;
+
+    public RevokeTokenRequest() {}
+
+    public RevokeTokenRequest(String token) {
+        this.token = token;
+    }
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+}
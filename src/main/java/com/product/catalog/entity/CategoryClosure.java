@@ -0,0 +1,32 @@
+package com.product.catalog.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * One (ancestor, descendant) pair of the category hierarchy, including each category paired with
+ * itself at depth 0. Rebuilt by a database trigger whenever categories or category_subcategories
+ * change, so it is read-only here.
+ */
+@Entity
+@Immutable
+@Table(name = "category_closure")
+public class CategoryClosure {
+
+    @EmbeddedId
+    private CategoryClosureId id;
+
+    @Column(nullable = false)
+    private int depth;
+
+    public CategoryClosure() {
+    }
+
+    public CategoryClosureId getId() {
+        return id;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+}
@@ -0,0 +1,45 @@
+package com.product.catalog.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class CategoryClosureId implements Serializable {
+
+    @Column(name = "ancestor_code", nullable = false)
+    private String ancestorCode;
+
+    @Column(name = "descendant_code", nullable = false)
+    private String descendantCode;
+
+    public CategoryClosureId() {
+    }
+
+    public CategoryClosureId(String ancestorCode, String descendantCode) {
+        this.ancestorCode = ancestorCode;
+        this.descendantCode = descendantCode;
+    }
+
+    public String getAncestorCode() {
+        return ancestorCode;
+    }
+
+    public String getDescendantCode() {
+        return descendantCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CategoryClosureId that)) return false;
+        return Objects.equals(ancestorCode, that.ancestorCode) && Objects.equals(descendantCode, that.descendantCode);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ancestorCode, descendantCode);
+    }
+}
@@ -0,0 +1,7 @@
+package com.product.catalog.entity;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
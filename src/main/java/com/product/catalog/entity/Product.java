@@ -25,7 +25,17 @@ public class Product {
     @Column(name = "stock_keeping_unit")
     private String stockKeepingUnit;
 
-    @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Embedded
+    private RatingSummary rating;
+
+    @Version
+    private Long version;
+
+    /**
+     * Inverse side only; can hold tens of thousands of rows, so never iterate it. Reviews are
+     * written and paged through ReviewRepository and removed with the product by the FK cascade.
+     */
+    @OneToMany(mappedBy = "product")
     private List<Review> reviews = new ArrayList<>();
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -80,6 +90,14 @@ public class Product {
         this.basePrice = basePrice;
     }
 
+    public RatingSummary getRating() {
+        return rating;
+    }
+
+    public void setRating(RatingSummary rating) {
+        this.rating = rating;
+    }
+
     public boolean isInStock() {
         return isInStock;
     }
@@ -96,6 +114,14 @@ public class Product {
         this.stockKeepingUnit = stockKeepingUnit;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<Review> getReviews() {
         return reviews;
     }
@@ -119,15 +145,5 @@ public class Product {
     public void setCatalog(Catalog catalog) {
         this.catalog = catalog;
     }
-
-    public void addReview(Review review) {
-        reviews.add(review);
-        review.setProduct(this);
-    }
-
-    public void removeReview(Review review) {
-        reviews.remove(review);
-        review.setProduct(null);
-    }
 }
 
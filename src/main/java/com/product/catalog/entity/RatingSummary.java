@@ -0,0 +1,116 @@
+package com.product.catalog.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.math.BigDecimal;
+
+/**
+ * Review aggregates stored on the product row. They are written only by set-based SQL in the
+ * same transaction as review writes, never through the entity, so product updates cannot
+ * overwrite a concurrent rating change.
+ */
+@Embeddable
+public class RatingSummary {
+
+    @Column(name = "review_count", insertable = false, updatable = false)
+    private Long reviewCount;
+
+    @Column(name = "rating_sum", insertable = false, updatable = false)
+    private Long ratingSum;
+
+    @Column(name = "rating_1_count", insertable = false, updatable = false)
+    private Long oneStarCount;
+
+    @Column(name = "rating_2_count", insertable = false, updatable = false)
+    private Long twoStarCount;
+
+    @Column(name = "rating_3_count", insertable = false, updatable = false)
+    private Long threeStarCount;
+
+    @Column(name = "rating_4_count", insertable = false, updatable = false)
+    private Long fourStarCount;
+
+    @Column(name = "rating_5_count", insertable = false, updatable = false)
+    private Long fiveStarCount;
+
+    @Column(name = "rating_average", precision = 3, scale = 2, insertable = false, updatable = false)
+    private BigDecimal average;
+
+    @Column(name = "rating_revision", insertable = false, updatable = false)
+    private Long revision;
+
+    public RatingSummary() {
+    }
+
+    public Long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(Long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public Long getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(Long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public Long getOneStarCount() {
+        return oneStarCount;
+    }
+
+    public void setOneStarCount(Long oneStarCount) {
+        this.oneStarCount = oneStarCount;
+    }
+
+    public Long getTwoStarCount() {
+        return twoStarCount;
+    }
+
+    public void setTwoStarCount(Long twoStarCount) {
+        this.twoStarCount = twoStarCount;
+    }
+
+    public Long getThreeStarCount() {
+        return threeStarCount;
+    }
+
+    public void setThreeStarCount(Long threeStarCount) {
+        this.threeStarCount = threeStarCount;
+    }
+
+    public Long getFourStarCount() {
+        return fourStarCount;
+    }
+
+    public void setFourStarCount(Long fourStarCount) {
+        this.fourStarCount = fourStarCount;
+    }
+
+    public Long getFiveStarCount() {
+        return fiveStarCount;
+    }
+
+    public void setFiveStarCount(Long fiveStarCount) {
+        this.fiveStarCount = fiveStarCount;
+    }
+
+    public BigDecimal getAverage() {
+        return average;
+    }
+
+    public void setAverage(BigDecimal average) {
+        this.average = average;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+}
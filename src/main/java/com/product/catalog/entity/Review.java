@@ -1,6 +1,10 @@
 package com.product.catalog.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
 
 @Entity
 @Table(name = "reviews")
@@ -12,8 +16,12 @@ public class Review {
     private String comment;
     private Integer rating;
 
+    @Column(name = "created_date", nullable = false)
+    private Instant createdDate;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_code")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Product product;
 
     public Review() {
@@ -49,6 +57,14 @@ public class Review {
         this.rating = rating;
     }
 
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
     public Product getProduct() {
         return product;
     }
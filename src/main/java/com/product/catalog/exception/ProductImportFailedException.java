@@ -0,0 +1,20 @@
+package com.product.catalog.exception;
+
+import com.product.catalog.entity.ProductImportJob;
+
+/**
+ * Thrown when an import stops part way; carries the failed job so the client can inspect or resume it
+ */
+public class ProductImportFailedException extends RuntimeException {
+
+    private final transient ProductImportJob job;
+
+    public ProductImportFailedException(ProductImportJob job, Throwable cause) {
+        super("Import job " + job.getId() + " failed: " + cause.getMessage(), cause);
+        this.job = job;
+    }
+
+    public ProductImportJob getJob() {
+        return job;
+    }
+}
@@ -0,0 +1,20 @@
+package com.product.catalog.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the request is refused to shed load; clients should retry after the given delay
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,95 @@
+package com.product.catalog.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits an import stream into raw records without interpreting them, so that parsing can be
+ * farmed out to worker threads. For CSV a record continues across line breaks inside quotes.
+ */
+public class ImportRecordReader {
+
+    private final BufferedReader reader;
+    private final boolean quoteAware;
+
+    ImportRecordReader(BufferedReader reader, boolean quoteAware) {
+        this.reader = reader;
+        this.quoteAware = quoteAware;
+    }
+
+    /**
+     * @return the next raw record, or null at end of stream
+     */
+    public String next() throws IOException {
+        String line = reader.readLine();
+        if (line == null || !quoteAware || quoteCount(line) % 2 == 0) {
+            return line;
+        }
+
+        StringBuilder record = new StringBuilder(line);
+        int quotes = quoteCount(line);
+        while (quotes % 2 != 0 && (line = reader.readLine()) != null) {
+            record.append('\n').append(line);
+            quotes += quoteCount(line);
+        }
+        return record.toString();
+    }
+
+    /**
+     * Read up to maxRecords records; a short list means the stream is exhausted.
+     */
+    public List<String> nextChunk(int maxRecords) throws IOException {
+        List<String> records = new ArrayList<>(maxRecords);
+        String record;
+        while (records.size() < maxRecords && (record = next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Split one RFC 4180 record into fields. Quoted fields may contain commas, doubled quotes and line breaks.
+     */
+    public static List<String> splitCsv(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static int quoteCount(String line) {
+        int count = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,9 @@
+package com.product.catalog.importer;
+
+/**
+ * A record that was not imported.
+ *
+ * @param lineNumber 1-based record number in the file, header excluded
+ */
+public record ImportRejection(long lineNumber, String code, String reason) {
+}
@@ -0,0 +1,9 @@
+package com.product.catalog.importer;
+
+import java.util.List;
+
+/**
+ * Result of parsing one chunk of records; index is the chunk position in the file.
+ */
+public record ParsedChunk(long index, int recordCount, List<ProductImportRow> rows, List<ImportRejection> rejections) {
+}
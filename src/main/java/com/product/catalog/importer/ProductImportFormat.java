@@ -0,0 +1,41 @@
+package com.product.catalog.importer;
+
+import com.product.catalog.exception.BusinessValidationException;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Supported bulk import payloads, selected by the request Content-Type.
+ */
+public enum ProductImportFormat {
+    CSV(MediaType.parseMediaType("text/csv")),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    ProductImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static ProductImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (ProductImportFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new BusinessValidationException(
+                "Unsupported import content type: " + contentType + " (expected text/csv or application/x-ndjson)");
+    }
+
+    public ImportRecordReader open(InputStream inputStream) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+        return new ImportRecordReader(reader, this == CSV);
+    }
+}
@@ -0,0 +1,183 @@
+package com.product.catalog.importer;
+
+import com.product.catalog.dto.CreateProductRequest;
+import com.product.catalog.dto.PriceDto;
+import com.product.catalog.exception.BusinessValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Turns raw import records into staged rows or rejections. Records are validated with the same
+ * bean constraints as POST /api/v1/products. Stateless and safe to call from several threads.
+ *
+ * CSV files need a header row; recognised columns are code, name, description, basePriceValue,
+ * basePriceCurrency, isInStock, stockKeepingUnit, categoryCode and catalogCode. NDJSON lines use
+ * the CreateProductRequest JSON shape.
+ */
+@Component
+public class ProductImportParser {
+
+    static final List<String> CSV_COLUMNS = List.of(
+            "code", "name", "description", "basePriceValue", "basePriceCurrency",
+            "isInStock", "stockKeepingUnit", "categoryCode", "catalogCode");
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public ProductImportParser(ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    /**
+     * Map CSV header names to column positions.
+     */
+    public Map<String, Integer> parseCsvHeader(String header) {
+        if (header == null) {
+            throw new BusinessValidationException("CSV import is empty; a header row is required");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = ImportRecordReader.splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).strip();
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            if (!CSV_COLUMNS.contains(name)) {
+                throw new BusinessValidationException("Unknown CSV column: " + name);
+            }
+            columns.put(name, i);
+        }
+        if (!columns.containsKey("code")) {
+            throw new BusinessValidationException("CSV header must contain a code column");
+        }
+        return columns;
+    }
+
+    /**
+     * Parse one chunk.
+     *
+     * @param csvColumns header mapping for CSV, ignored for NDJSON
+     * @param firstLine  record number of the first record in the chunk
+     */
+    public ParsedChunk parse(ProductImportFormat format,
+                             Map<String, Integer> csvColumns,
+                             long index,
+                             long firstLine,
+                             List<String> records) {
+        List<ProductImportRow> rows = new ArrayList<>(records.size());
+        List<ImportRejection> rejections = new ArrayList<>();
+
+        for (int i = 0; i < records.size(); i++) {
+            String record = records.get(i);
+            long lineNumber = firstLine + i;
+            if (record.isBlank()) {
+                continue;
+            }
+
+            CreateProductRequest request;
+            try {
+                request = format == ProductImportFormat.CSV
+                        ? fromCsv(record, csvColumns)
+                        : objectMapper.readValue(record, CreateProductRequest.class);
+            } catch (JacksonException ex) {
+                rejections.add(new ImportRejection(lineNumber, null, "Malformed JSON: " + ex.getOriginalMessage()));
+                continue;
+            } catch (IllegalArgumentException ex) {
+                rejections.add(new ImportRejection(lineNumber, null, ex.getMessage()));
+                continue;
+            }
+
+            String violations = validate(request);
+            if (violations != null) {
+                rejections.add(new ImportRejection(lineNumber, request.getCode(), violations));
+                continue;
+            }
+
+            rows.add(new ProductImportRow(
+                    lineNumber,
+                    request.getCode(),
+                    request.getName(),
+                    request.getDescription(),
+                    request.getBasePrice().getValue(),
+                    request.getBasePrice().getCurrency(),
+                    request.getIsInStock() == null || request.getIsInStock(),
+                    request.getStockKeepingUnit(),
+                    request.getCategoryCode(),
+                    request.getCatalogCode()
+            ));
+        }
+
+        return new ParsedChunk(index, records.size(), rows, rejections);
+    }
+
+    private CreateProductRequest fromCsv(String record, Map<String, Integer> columns) {
+        List<String> fields = ImportRecordReader.splitCsv(record);
+
+        String priceValue = field(fields, columns, "basePriceValue");
+        String currency = field(fields, columns, "basePriceCurrency");
+        PriceDto price = null;
+        if (priceValue != null || currency != null) {
+            try {
+                price = new PriceDto(priceValue == null ? null : new BigDecimal(priceValue), currency);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid basePriceValue: " + priceValue);
+            }
+        }
+
+        return new CreateProductRequest(
+                field(fields, columns, "code"),
+                field(fields, columns, "name"),
+                field(fields, columns, "description"),
+                price,
+                parseBoolean(field(fields, columns, "isInStock")),
+                field(fields, columns, "stockKeepingUnit"),
+                field(fields, columns, "categoryCode"),
+                field(fields, columns, "catalogCode")
+        );
+    }
+
+    private String validate(CreateProductRequest request) {
+        Stream<? extends ConstraintViolation<?>> violations = validator.validate(request).stream();
+        if (request.getBasePrice() != null) {
+            violations = Stream.concat(violations, validator.validate(request.getBasePrice()).stream());
+        }
+
+        Set<String> messages = new TreeSet<>();
+        violations.forEach(violation -> messages.add(violation.getMessage()));
+        return messages.isEmpty() ? null : String.join("; ", messages);
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer position = columns.get(name);
+        if (position == null || position >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(position).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "1", "yes" -> true;
+            case "false", "0", "no" -> false;
+            default -> throw new IllegalArgumentException("Invalid isInStock: " + value);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.product.catalog.importer;
+
+import java.math.BigDecimal;
+
+/**
+ * A validated import record, ready to be staged.
+ */
+public record ProductImportRow(
+        long lineNumber,
+        String code,
+        String name,
+        String description,
+        BigDecimal basePriceValue,
+        String basePriceCurrency,
+        boolean inStock,
+        String stockKeepingUnit,
+        String categoryCode,
+        String catalogCode
+) {
+}
@@ -0,0 +1,19 @@
+package com.product.catalog.mapper;
+
+import com.product.catalog.cache.CategoryNode;
+import com.product.catalog.dto.CategoryTreeResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import java.util.List;
+
+/**
+ * Mapper for category tree responses
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface CategoryMapper {
+
+    CategoryTreeResponse nodeToResponse(CategoryNode node);
+
+    List<CategoryTreeResponse> nodesToResponses(List<CategoryNode> nodes);
+}
@@ -0,0 +1,29 @@
+package com.product.catalog.mapper;
+
+import com.product.catalog.cache.ReferenceDataCache;
+import com.product.catalog.dto.BreadcrumbDto;
+import org.mapstruct.Named;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Resolves a category code to its breadcrumb from the reference-data snapshot,
+ * so responses never lazy-load parent categories
+ */
+@Component
+public class CategoryPathMapper {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    public CategoryPathMapper(ReferenceDataCache referenceDataCache) {
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    @Named("categoryPath")
+    public List<BreadcrumbDto> toCategoryPath(String categoryCode) {
+        return referenceDataCache.current().breadcrumb(categoryCode).stream()
+                .map(category -> new BreadcrumbDto(category.code(), category.name()))
+                .toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.product.catalog.mapper;
+
+import com.product.catalog.dto.ProductImportJobResponse;
+import com.product.catalog.entity.ProductImportJob;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Mapper for bulk import job responses
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ProductImportMapper {
+
+    @Mapping(target = "jobId", source = "id")
+    ProductImportJobResponse toResponse(ProductImportJob job);
+}
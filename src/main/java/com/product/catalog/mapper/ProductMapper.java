@@ -15,7 +15,7 @@ import java.util.List;
  */
 @Mapper(
     componentModel = MappingConstants.ComponentModel.SPRING,
-    uses = {PriceMapper.class},
+    uses = {PriceMapper.class, RatingMapper.class, CategoryPathMapper.class},
     nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE
 )
 public interface ProductMapper {
@@ -34,22 +34,29 @@ public interface ProductMapper {
     @Mapping(target = "category", ignore = true)
     @Mapping(target = "catalog", ignore = true)
     @Mapping(target = "reviews", ignore = true)
+    @Mapping(target = "rating", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "inStock", source = "isInStock")
     Product domainToEntity(ProductDomain domain);
 
     /**
      * Convert CreateProductRequest to ProductDomain
      */
+    @Mapping(target = "rating", ignore = true)
+    @Mapping(target = "version", ignore = true)
     ProductDomain createRequestToDomain(CreateProductRequest request);
 
     /**
      * Convert UpdateProductRequest to ProductDomain
      */
+    @Mapping(target = "rating", ignore = true)
+    @Mapping(target = "version", ignore = true)
     ProductDomain updateRequestToDomain(UpdateProductRequest request);
 
     /**
      * Convert ProductDomain to ProductResponse
      */
+    @Mapping(target = "categoryPath", source = "categoryCode", qualifiedByName = "categoryPath")
     ProductResponse domainToResponse(ProductDomain domain);
 
     /**
@@ -58,6 +65,7 @@ public interface ProductMapper {
     @Mapping(target = "categoryCode", source = "category.code")
     @Mapping(target = "catalogCode", source = "catalog.code")
     @Mapping(target = "isInStock", source = "inStock")
+    @Mapping(target = "categoryPath", source = "category.code", qualifiedByName = "categoryPath")
     ProductResponse entityToResponse(Product entity);
 
     /**
@@ -66,6 +74,8 @@ public interface ProductMapper {
     @Mapping(target = "category", ignore = true)
     @Mapping(target = "catalog", ignore = true)
     @Mapping(target = "reviews", ignore = true)
+    @Mapping(target = "rating", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "inStock", source = "isInStock")
     Product createRequestToEntity(CreateProductRequest request);
 
@@ -76,6 +86,8 @@ public interface ProductMapper {
     @Mapping(target = "category", ignore = true)
     @Mapping(target = "catalog", ignore = true)
     @Mapping(target = "reviews", ignore = true)
+    @Mapping(target = "rating", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "inStock", source = "isInStock")
     void updateEntityFromRequest(UpdateProductRequest request, @MappingTarget Product entity);
 
@@ -86,6 +98,8 @@ public interface ProductMapper {
     @Mapping(target = "category", ignore = true)
     @Mapping(target = "catalog", ignore = true)
     @Mapping(target = "reviews", ignore = true)
+    @Mapping(target = "rating", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "inStock", source = "isInStock")
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDomain(ProductDomain domain, @MappingTarget Product entity);
@@ -0,0 +1,25 @@
+package com.product.catalog.mapper;
+
+import com.product.catalog.domain.RatingDomain;
+import com.product.catalog.dto.RatingDto;
+import com.product.catalog.entity.RatingSummary;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Mapper for product review aggregates. The stored average is 0 for unreviewed products;
+ * responses show null instead.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface RatingMapper {
+
+    RatingDomain entityToDomain(RatingSummary entity);
+
+    @Mapping(target = "average", expression = "java(domain.hasReviews() ? domain.getAverage() : null)")
+    RatingDto domainToDto(RatingDomain domain);
+
+    @Mapping(target = "average",
+            expression = "java(entity.getReviewCount() != null && entity.getReviewCount() > 0 ? entity.getAverage() : null)")
+    RatingDto entityToDto(RatingSummary entity);
+}
@@ -0,0 +1,26 @@
+package com.product.catalog.mapper;
+
+import com.product.catalog.domain.ReviewDomain;
+import com.product.catalog.dto.CreateReviewRequest;
+import com.product.catalog.dto.ReviewResponse;
+import com.product.catalog.entity.Review;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Mapper for Review conversions between layers
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ReviewMapper {
+
+    @Mapping(target = "productCode", source = "product.code")
+    ReviewDomain entityToDomain(Review entity);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "productCode", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    ReviewDomain createRequestToDomain(CreateReviewRequest request);
+
+    ReviewResponse domainToResponse(ReviewDomain domain);
+}
@@ -0,0 +1,29 @@
+package com.product.catalog.pagination;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * A slice of a listing with an estimated total. Whether more rows follow comes from the data
+ * (one extra row fetched), never from the estimate, so a stale estimate cannot hide the last page.
+ */
+public class ApproximateSlice<T> extends SliceImpl<T> {
+
+    private final long approximateTotal;
+
+    public ApproximateSlice(Slice<T> slice, long approximateTotal) {
+        super(slice.getContent(), slice.getPageable(), slice.hasNext());
+        this.approximateTotal = approximateTotal;
+    }
+
+    public long getApproximateTotal() {
+        return approximateTotal;
+    }
+
+    public int getApproximateTotalPages() {
+        return getSize() == 0 ? 1 : (int) Math.ceil((double) approximateTotal / getSize());
+    }
+}
@@ -0,0 +1,69 @@
+package com.product.catalog.pagination;
+
+import com.product.catalog.exception.BusinessValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe cursor tokens.
+ * A cursor is a list of string parts, each length-prefixed so values may contain any character.
+ */
+public final class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /** Marks a null part; cannot collide with a real value because real values are length-prefixed */
+    private static final String NULL_PART = "-";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(List<String> parts) {
+        StringBuilder raw = new StringBuilder();
+        for (String part : parts) {
+            if (part == null) {
+                raw.append(NULL_PART).append(':');
+            } else {
+                raw.append(part.length()).append(':').append(part);
+            }
+        }
+        return ENCODER.encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static List<String> decode(String cursor, int expectedParts) {
+        String raw;
+        try {
+            raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessValidationException("Invalid cursor");
+        }
+
+        List<String> parts = new ArrayList<>(expectedParts);
+        int position = 0;
+        try {
+            while (position < raw.length()) {
+                int colon = raw.indexOf(':', position);
+                String length = raw.substring(position, colon);
+                if (NULL_PART.equals(length)) {
+                    parts.add(null);
+                    position = colon + 1;
+                } else {
+                    int end = colon + 1 + Integer.parseInt(length);
+                    parts.add(raw.substring(colon + 1, end));
+                    position = end;
+                }
+            }
+        } catch (RuntimeException ex) {
+            throw new BusinessValidationException("Invalid cursor");
+        }
+
+        if (parts.size() != expectedParts) {
+            throw new BusinessValidationException("Invalid cursor");
+        }
+        return parts;
+    }
+}
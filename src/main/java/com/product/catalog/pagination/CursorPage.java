@@ -0,0 +1,14 @@
+package com.product.catalog.pagination;
+
+import java.util.List;
+
+/**
+ * One page of a keyset scroll: the rows plus the cursor that continues after the last row.
+ * nextCursor is null on the last page.
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.product.catalog.pagination;
+
+import com.product.catalog.entity.Product;
+import com.product.catalog.exception.BusinessValidationException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keyset position in a product listing: the sort key and code of the last row returned.
+ */
+public record ProductCursor(ProductSortField sortField, Sort.Direction direction, String value, String code) {
+
+    /**
+     * Position right after the given product
+     */
+    public static ProductCursor after(Product product, ProductSortField sortField, Sort.Direction direction) {
+        return new ProductCursor(sortField, direction, sortField.extract(product), product.getCode());
+    }
+
+    /**
+     * Decode a cursor token and check it was issued for the requested sort.
+     */
+    public static ProductCursor decode(String token, ProductSortField sortField, Sort.Direction direction) {
+        List<String> parts = CursorCodec.decode(token, 4);
+
+        ProductSortField cursorField = Arrays.stream(ProductSortField.values())
+                .filter(field -> field.name().equals(parts.get(0)))
+                .findFirst()
+                .orElseThrow(() -> new BusinessValidationException("Invalid cursor"));
+        if (cursorField != sortField || !direction.name().equals(parts.get(1)) || parts.get(3) == null) {
+            throw new BusinessValidationException("Cursor does not match the requested sort");
+        }
+
+        return new ProductCursor(sortField, direction, parts.get(2), parts.get(3));
+    }
+
+    public String encode() {
+        return CursorCodec.encode(Arrays.asList(sortField.name(), direction.name(), value, code));
+    }
+
+    /**
+     * Sort key of the last row as a value of the column type, or null
+     */
+    public Comparable<?> typedValue() {
+        try {
+            return value == null ? null : sortField.parse(value);
+        } catch (RuntimeException ex) {
+            throw new BusinessValidationException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.product.catalog.pagination;
+
+import com.product.catalog.entity.Product;
+import com.product.catalog.exception.BusinessValidationException;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Product sort fields that are backed by an index ending in the product code,
+ * and therefore usable for keyset pagination.
+ */
+public enum ProductSortField {
+
+    CODE("code", "code", Product::getCode, value -> value),
+    NAME("name", "name", Product::getName, value -> value),
+    PRICE("basePrice", "basePrice.value",
+            product -> product.getBasePrice() != null && product.getBasePrice().getValue() != null
+                    ? product.getBasePrice().getValue().toPlainString() : null,
+            BigDecimal::new),
+    RATING("rating", "rating.average",
+            product -> product.getRating() != null && product.getRating().getAverage() != null
+                    ? product.getRating().getAverage().toPlainString() : null,
+            BigDecimal::new);
+
+    private final String parameter;
+    private final String property;
+    private final Function<Product, String> extractor;
+    private final Function<String, Comparable<?>> parser;
+
+    ProductSortField(String parameter,
+                     String property,
+                     Function<Product, String> extractor,
+                     Function<String, Comparable<?>> parser) {
+        this.parameter = parameter;
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    /**
+     * Resolve the sort request parameter (e.g. "name"), rejecting fields without a supporting index.
+     */
+    public static ProductSortField fromParameter(String parameter) {
+        return Arrays.stream(values())
+                .filter(field -> field.parameter.equalsIgnoreCase(parameter))
+                .findFirst()
+                .orElseThrow(() -> new BusinessValidationException(
+                        "Unsupported sort field '" + parameter + "'. Supported: " + Arrays.stream(values())
+                                .map(field -> field.parameter)
+                                .collect(Collectors.joining(", "))));
+    }
+
+    /**
+     * Entity property path, e.g. "basePrice.value"
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Sort by this field, then by code in the same direction so the order is total.
+     */
+    public Sort toSort(Sort.Direction direction) {
+        Sort sort = Sort.by(direction, property);
+        return this == CODE ? sort : sort.and(Sort.by(direction, CODE.property));
+    }
+
+    /**
+     * Value of this field on a product, rendered as a string for the cursor
+     */
+    String extract(Product product) {
+        return extractor.apply(product);
+    }
+
+    /**
+     * Parse a cursor value back into a comparable of the column type
+     */
+    Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+}
@@ -0,0 +1,43 @@
+package com.product.catalog.pagination;
+
+import com.product.catalog.entity.Review;
+import com.product.catalog.exception.BusinessValidationException;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keyset position in a product's review listing: created date and id of the last review returned.
+ * Carries the rating filter it was issued for, so it cannot be replayed against another filter.
+ */
+public record ReviewCursor(Integer rating, Instant createdDate, String id) {
+
+    /**
+     * Position right after the given review
+     */
+    public static ReviewCursor after(Review review, Integer rating) {
+        return new ReviewCursor(rating, review.getCreatedDate(), review.getId());
+    }
+
+    /**
+     * Decode a cursor token and check it was issued for the requested rating filter.
+     */
+    public static ReviewCursor decode(String token, Integer rating) {
+        List<String> parts = CursorCodec.decode(token, 3);
+        if (!Objects.equals(parts.get(0), rating == null ? null : rating.toString())) {
+            throw new BusinessValidationException("Cursor does not match the requested rating");
+        }
+        try {
+            return new ReviewCursor(rating, Instant.parse(parts.get(1)), Objects.requireNonNull(parts.get(2)));
+        } catch (RuntimeException ex) {
+            throw new BusinessValidationException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encode(Arrays.asList(
+                rating == null ? null : rating.toString(), createdDate.toString(), id));
+    }
+}
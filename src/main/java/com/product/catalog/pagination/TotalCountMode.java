@@ -0,0 +1,34 @@
+package com.product.catalog.pagination;
+
+import com.product.catalog.exception.BusinessValidationException;
+
+/**
+ * How the total element count of a product listing is produced
+ */
+public enum TotalCountMode {
+
+    /** Exact COUNT(*) per request */
+    EXACT,
+
+    /** No count; the page only says whether more rows follow */
+    NONE,
+
+    /** Planner statistics or a per-filter count refreshed in the background */
+    APPROXIMATE;
+
+    /**
+     * Resolve the withTotal request parameter: true, false or approximate
+     */
+    public static TotalCountMode fromParameter(String withTotal) {
+        if (withTotal == null || "true".equalsIgnoreCase(withTotal)) {
+            return EXACT;
+        }
+        if ("false".equalsIgnoreCase(withTotal)) {
+            return NONE;
+        }
+        if ("approximate".equalsIgnoreCase(withTotal)) {
+            return APPROXIMATE;
+        }
+        throw new BusinessValidationException("withTotal must be one of: true, false, approximate");
+    }
+}
@@ -1,9 +1,12 @@
 package com.product.catalog.repository;
 
+import com.product.catalog.cache.CatalogRef;
 import com.product.catalog.entity.Catalog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,5 +24,11 @@ public interface CatalogRepository extends JpaRepository<Catalog, String> {
      * Check if catalog exists by code
      */
     boolean existsByCode(String code);
+
+    /**
+     * Load every catalog as a lightweight reference without initializing products
+     */
+    @Query("SELECT new com.product.catalog.cache.CatalogRef(c.code, c.name, c.catalogVersion) FROM Catalog c")
+    List<CatalogRef> findAllRefs();
 }
 
@@ -1,9 +1,13 @@
 package com.product.catalog.repository;
 
+import com.product.catalog.cache.CategoryEdge;
+import com.product.catalog.cache.CategoryRef;
 import com.product.catalog.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,5 +25,18 @@ public interface CategoryRepository extends JpaRepository<Category, String> {
      * Check if category exists by code
      */
     boolean existsByCode(String code);
+
+    /**
+     * Load every category as a lightweight reference without initializing relationships
+     */
+    @Query("SELECT new com.product.catalog.cache.CategoryRef(c.code, c.name, c.description, p.code) " +
+           "FROM Category c LEFT JOIN c.parentCategory p")
+    List<CategoryRef> findAllRefs();
+
+    /**
+     * Load the whole category_subcategories join table in one query
+     */
+    @Query("SELECT new com.product.catalog.cache.CategoryEdge(c.code, s.code) FROM Category c JOIN c.subcategories s")
+    List<CategoryEdge> findAllSubcategoryEdges();
 }
 
@@ -0,0 +1,179 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.domain.ProductDomain;
+import com.product.catalog.importer.ImportRejection;
+import com.product.catalog.importer.ProductImportRow;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Set-based SQL behind the bulk product import. Every method is meant to run inside the
+ * transaction of a single import chunk, so staging, rejections, the merge and the job progress
+ * update commit or roll back together.
+ */
+@Repository
+public class ProductImportJdbcRepository {
+
+    private static final String COPY_STAGING = "COPY product_import_staging (job_id, line_number, code, name, "
+            + "description, base_price_value, base_price_currency, is_in_stock, stock_keeping_unit, "
+            + "category_code, catalog_code) FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * Staged rows that cannot be merged: repeated codes within the file, codes that already exist,
+     * or category and catalog codes that do not resolve.
+     */
+    private static final String REJECT_CONFLICTS = """
+            INSERT INTO product_import_rejections (job_id, line_number, code, reason)
+            SELECT job_id, line_number, code, reason
+            FROM (
+                SELECT s.job_id, s.line_number, s.code,
+                       CASE
+                           WHEN ROW_NUMBER() OVER (PARTITION BY s.code ORDER BY s.line_number) > 1
+                               THEN 'Duplicate code earlier in the import'
+                           WHEN p.code IS NOT NULL THEN 'Product already exists'
+                           WHEN s.category_code IS NOT NULL AND c.code IS NULL
+                               THEN 'Category not found: ' || s.category_code
+                           WHEN s.catalog_code IS NOT NULL AND k.code IS NULL
+                               THEN 'Catalog not found: ' || s.catalog_code
+                       END AS reason
+                FROM product_import_staging s
+                LEFT JOIN products p ON p.code = s.code
+                LEFT JOIN categories c ON c.code = s.category_code
+                LEFT JOIN catalogs k ON k.code = s.catalog_code
+                WHERE s.job_id = ?
+            ) checked
+            WHERE reason IS NOT NULL
+            """;
+
+    /**
+     * A concurrent insert of the same code fails the chunk with a unique violation rather than
+     * being skipped silently; the resumed chunk then reports it as a rejection.
+     */
+    private static final String MERGE_STAGED = """
+            INSERT INTO products (code, name, description, base_price_value, base_price_currency,
+                                  is_in_stock, stock_keeping_unit, category_id, catalog_code, version)
+            SELECT s.code, s.name, s.description, s.base_price_value, s.base_price_currency,
+                   s.is_in_stock, s.stock_keeping_unit, s.category_code, s.catalog_code, 0
+            FROM product_import_staging s
+            WHERE s.job_id = ?
+              AND NOT EXISTS (
+                  SELECT 1 FROM product_import_rejections r
+                  WHERE r.job_id = s.job_id AND r.line_number = s.line_number
+              )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductImportJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Load rows into the staging table with COPY.
+     *
+     * @return number of rows staged
+     */
+    public long stage(String jobId, List<ProductImportRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder csv = new StringBuilder(rows.size() * 256);
+        for (ProductImportRow row : rows) {
+            csv.append(quote(jobId)).append(',')
+                    .append(row.lineNumber()).append(',')
+                    .append(quote(row.code())).append(',')
+                    .append(quote(row.name())).append(',')
+                    .append(quote(row.description())).append(',')
+                    .append(number(row.basePriceValue())).append(',')
+                    .append(quote(row.basePriceCurrency())).append(',')
+                    .append(row.inStock()).append(',')
+                    .append(quote(row.stockKeepingUnit())).append(',')
+                    .append(quote(row.categoryCode())).append(',')
+                    .append(quote(row.catalogCode())).append('\n');
+        }
+
+        Long staged = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_STAGING, new StringReader(csv.toString()));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return staged == null ? 0 : staged;
+    }
+
+    /**
+     * Record rejections found while parsing.
+     */
+    public void insertRejections(String jobId, List<ImportRejection> rejections) {
+        if (rejections.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_import_rejections (job_id, line_number, code, reason) VALUES (?, ?, ?, ?)",
+                rejections,
+                rejections.size(),
+                (statement, rejection) -> {
+                    statement.setString(1, jobId);
+                    statement.setLong(2, rejection.lineNumber());
+                    statement.setString(3, rejection.code());
+                    statement.setString(4, truncate(rejection.reason()));
+                });
+    }
+
+    /**
+     * @return number of staged rows rejected
+     */
+    public int rejectConflicts(String jobId) {
+        return jdbcTemplate.update(REJECT_CONFLICTS, jobId);
+    }
+
+    /**
+     * Insert every staged row that was not rejected.
+     *
+     * @return the products inserted
+     */
+    public List<ProductDomain> mergeStaged(String jobId) {
+        return jdbcTemplate.query(MERGE_STAGED + " RETURNING " + ProductRowMapper.COLUMNS,
+                ProductRowMapper.INSTANCE, jobId);
+    }
+
+    public void clearStaging(String jobId) {
+        jdbcTemplate.update("DELETE FROM product_import_staging WHERE job_id = ?", jobId);
+    }
+
+    /**
+     * Page through rejections in file order.
+     */
+    public List<ImportRejection> findRejections(String jobId, long afterLine, int limit) {
+        return jdbcTemplate.query(
+                "SELECT line_number, code, reason FROM product_import_rejections "
+                        + "WHERE job_id = ? AND line_number > ? ORDER BY line_number LIMIT ?",
+                (rs, rowNum) -> new ImportRejection(rs.getLong("line_number"), rs.getString("code"), rs.getString("reason")),
+                jobId, afterLine, limit
+        );
+    }
+
+    private static String quote(String value) {
+        return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String number(BigDecimal value) {
+        return value == null ? "" : value.toPlainString();
+    }
+
+    private static String truncate(String reason) {
+        return reason.length() <= 1000 ? reason : reason.substring(0, 1000);
+    }
+}
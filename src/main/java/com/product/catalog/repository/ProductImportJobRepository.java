@@ -0,0 +1,32 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.entity.ImportStatus;
+import com.product.catalog.entity.ProductImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Repository for ProductImportJob entity
+ */
+@Repository
+public interface ProductImportJobRepository extends JpaRepository<ProductImportJob, String> {
+
+    /**
+     * Mark a job as running unless another request is still working on it.
+     * A running job whose progress has not moved since staleBefore is assumed abandoned.
+     *
+     * @return 1 if the job was claimed
+     */
+    @Modifying
+    @Query("UPDATE ProductImportJob j SET j.status = :running, j.errorMessage = null, j.updatedAt = :now " +
+           "WHERE j.id = :id AND (j.status <> :running OR j.updatedAt < :staleBefore)")
+    int claim(@Param("id") String id,
+              @Param("running") ImportStatus running,
+              @Param("now") Instant now,
+              @Param("staleBefore") Instant staleBefore);
+}
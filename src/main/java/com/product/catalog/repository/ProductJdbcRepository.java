@@ -0,0 +1,309 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.domain.ProductDomain;
+import com.product.catalog.domain.ProductFilter;
+import com.product.catalog.search.ProductFacets;
+import com.product.catalog.search.ProductSearchHit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.function.Consumer;
+
+/**
+ * Plain-JDBC product queries for PostgreSQL features JPA does not expose
+ */
+@Repository
+public class ProductJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Planner estimate of the products row count, maintained by ANALYZE / autovacuum.
+     * Returns -1 when the table has never been analyzed.
+     */
+    public long estimateProductCount() {
+        List<Long> estimate = jdbcTemplate.queryForList(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass('products')",
+                Long.class
+        );
+        return estimate.isEmpty() || estimate.get(0) == null ? -1L : estimate.get(0);
+    }
+
+    /**
+     * Stream products in code order through a forward-only cursor, one row at a time.
+     * Must run inside a transaction: PostgreSQL only honours the fetch size with autocommit off.
+     *
+     * @param afterCode exclusive lower bound on code, used to resume an interrupted stream
+     */
+    public void streamProducts(String catalogCode,
+                               String categoryCode,
+                               String afterCode,
+                               int fetchSize,
+                               Consumer<ProductDomain> consumer) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(ProductRowMapper.COLUMNS)
+                .append(" FROM products WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (catalogCode != null) {
+            sql.append(" AND catalog_code = ?");
+            args.add(catalogCode);
+        }
+        if (categoryCode != null) {
+            sql.append(" AND category_id = ?");
+            args.add(categoryCode);
+        }
+        if (afterCode != null) {
+            sql.append(" AND code > ?");
+            args.add(afterCode);
+        }
+        sql.append(" ORDER BY code");
+
+        int[] rowNum = {0};
+        RowCallbackHandler handler = rs -> consumer.accept(ProductRowMapper.INSTANCE.mapRow(rs, rowNum[0]++));
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString());
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * Load products by code, in chunks of at most 1000 codes per query.
+     */
+    public List<ProductDomain> findByCodes(Collection<String> codes) {
+        List<String> codeList = List.copyOf(codes);
+        List<ProductDomain> products = new ArrayList<>(codeList.size());
+        for (int from = 0; from < codeList.size(); from += 1000) {
+            List<String> chunk = codeList.subList(from, Math.min(from + 1000, codeList.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            products.addAll(jdbcTemplate.query(
+                    "SELECT " + ProductRowMapper.COLUMNS + " FROM products WHERE code IN (" + placeholders + ")",
+                    ProductRowMapper.INSTANCE,
+                    chunk.toArray()
+            ));
+        }
+        return products;
+    }
+
+    /**
+     * Full-text search over the generated products.search_vector column (GIN indexed), ordered by
+     * rank descending then code. Keyset paging: pass the rank and code of the last hit of the previous page.
+     *
+     * @param tsQuery   a to_tsquery expression, see {@link com.product.catalog.search.SearchQuery}
+     * @param afterRank rank of the last hit already returned, or null for the first page
+     */
+    public List<ProductSearchHit> search(String tsQuery,
+                                         String categoryCode,
+                                         Boolean inStock,
+                                         Float afterRank,
+                                         String afterCode,
+                                         int limit) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM (SELECT ").append(ProductRowMapper.COLUMNS)
+                .append(", ts_rank_cd(search_vector, query) AS rank")
+                .append(" FROM products, to_tsquery('english', ?) query")
+                .append(" WHERE search_vector @@ query");
+        List<Object> args = new ArrayList<>();
+        args.add(tsQuery);
+        if (categoryCode != null) {
+            sql.append(" AND category_id = ?");
+            args.add(categoryCode);
+        }
+        if (inStock != null) {
+            sql.append(" AND is_in_stock = ?");
+            args.add(inStock);
+        }
+        sql.append(") ranked");
+        if (afterRank != null) {
+            sql.append(" WHERE rank < ? OR (rank = ? AND code > ?)");
+            args.add(afterRank);
+            args.add(afterRank);
+            args.add(afterCode);
+        }
+        sql.append(" ORDER BY rank DESC, code LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new ProductSearchHit(ProductRowMapper.INSTANCE.mapRow(rs, rowNum), rs.getFloat("rank")),
+                args.toArray());
+    }
+
+    /**
+     * All listing facets in one scan: GROUPING SETS over category, stock and price bucket, with
+     * FILTER clauses so each facet ignores its own filter. Catalog, SKU and name criteria apply to
+     * every facet; the price facet's own filter is currency and price range. With two or more facet
+     * filters set, only rows matching at least one of them are read.
+     *
+     * @param priceBounds ascending bucket boundaries; inlined as literals, so they must come from configuration
+     */
+    public ProductFacets facetCounts(ProductFilter filter, List<BigDecimal> priceBounds) {
+        SqlCondition categoryMatch = categoryCondition(filter);
+        SqlCondition stockMatch = filter.inStock() != null
+                ? new SqlCondition("is_in_stock = ?", List.of(filter.inStock()))
+                : SqlCondition.TRUE;
+        SqlCondition priceMatch = SqlCondition.TRUE;
+        if (filter.currency() != null) {
+            priceMatch = priceMatch.and(new SqlCondition("base_price_currency = ?", List.of(filter.currency())));
+        }
+        if (filter.minPrice() != null) {
+            priceMatch = priceMatch.and(new SqlCondition("base_price_value >= ?", List.of(filter.minPrice())));
+        }
+        if (filter.maxPrice() != null) {
+            priceMatch = priceMatch.and(new SqlCondition("base_price_value < ?", List.of(filter.maxPrice())));
+        }
+
+        SqlCondition common = SqlCondition.TRUE;
+        if (filter.catalogCode() != null) {
+            common = common.and(new SqlCondition("catalog_code = ?", List.of(filter.catalogCode())));
+        }
+        if (filter.skuPrefix() != null) {
+            common = common.and(new SqlCondition("stock_keeping_unit LIKE ? ESCAPE '\\'",
+                    List.of(ProductSpecifications.likePrefix(filter.skuPrefix()))));
+        }
+        if (filter.namePrefix() != null) {
+            common = common.and(new SqlCondition("lower(name) LIKE ? ESCAPE '\\'",
+                    List.of(ProductSpecifications.likePrefix(filter.namePrefix().toLowerCase(Locale.ROOT)))));
+        }
+
+        // A row is counted by some facet only if it fails at most one facet filter
+        List<SqlCondition> facetFilters = Stream.of(categoryMatch, stockMatch, priceMatch)
+                .filter(condition -> condition != SqlCondition.TRUE)
+                .toList();
+        if (facetFilters.size() >= 2) {
+            common = common.and(SqlCondition.anyOf(facetFilters));
+        }
+
+        String priceBucket = priceBounds.isEmpty()
+                ? "CAST(NULL AS integer)"
+                : priceBounds.stream().map(BigDecimal::toPlainString)
+                        .collect(Collectors.joining(", ", "width_bucket(base_price_value, ARRAY[", "]::numeric[])"));
+
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT category_id, is_in_stock, base_price_currency, price_bucket,")
+                .append(" GROUPING(category_id) AS by_category, GROUPING(is_in_stock) AS by_stock,")
+                .append(" GROUPING(price_bucket) AS by_price,");
+        appendCount(sql, args, stockMatch.and(priceMatch), "category_count");
+        sql.append(",");
+        appendCount(sql, args, categoryMatch.and(priceMatch), "stock_count");
+        sql.append(",");
+        appendCount(sql, args, categoryMatch.and(stockMatch), "price_count");
+        sql.append(",");
+        appendCount(sql, args, categoryMatch.and(stockMatch).and(priceMatch), "matching_count");
+
+        sql.append(" FROM (SELECT category_id, is_in_stock, base_price_currency, base_price_value, ")
+                .append(priceBucket).append(" AS price_bucket FROM products");
+        if (common != SqlCondition.TRUE) {
+            sql.append(" WHERE ").append(common.sql());
+            args.addAll(common.args());
+        }
+        sql.append(") p GROUP BY GROUPING SETS ((category_id), (is_in_stock), (base_price_currency, price_bucket), ())");
+
+        long[] total = {0};
+        List<ProductFacets.FacetCount> categories = new ArrayList<>();
+        List<ProductFacets.FacetCount> stock = new ArrayList<>();
+        List<ProductFacets.PriceRangeCount> priceRanges = new ArrayList<>();
+
+        jdbcTemplate.query(sql.toString(), rs -> {
+            if (rs.getInt("by_category") == 0) {
+                String category = rs.getString("category_id");
+                long count = rs.getLong("category_count");
+                if (category != null && count > 0) {
+                    categories.add(new ProductFacets.FacetCount(category, count));
+                }
+            } else if (rs.getInt("by_stock") == 0) {
+                boolean value = rs.getBoolean("is_in_stock");
+                boolean known = !rs.wasNull();
+                long count = rs.getLong("stock_count");
+                if (known && count > 0) {
+                    stock.add(new ProductFacets.FacetCount(String.valueOf(value), count));
+                }
+            } else if (rs.getInt("by_price") == 0) {
+                String currency = rs.getString("base_price_currency");
+                int bucket = rs.getInt("price_bucket");
+                boolean priced = !rs.wasNull();
+                long count = rs.getLong("price_count");
+                if (priced && currency != null && count > 0) {
+                    // width_bucket: 0 is below the first bound, priceBounds.size() is at or above the last
+                    priceRanges.add(new ProductFacets.PriceRangeCount(
+                            currency,
+                            bucket == 0 ? null : priceBounds.get(bucket - 1),
+                            bucket == priceBounds.size() ? null : priceBounds.get(bucket),
+                            count));
+                }
+            } else {
+                total[0] = rs.getLong("matching_count");
+            }
+        }, args.toArray());
+
+        categories.sort(Comparator.comparingLong(ProductFacets.FacetCount::count).reversed()
+                .thenComparing(ProductFacets.FacetCount::value));
+        stock.sort(Comparator.comparing(ProductFacets.FacetCount::value).reversed());
+        priceRanges.sort(Comparator.comparing(ProductFacets.PriceRangeCount::currency)
+                .thenComparing(ProductFacets.PriceRangeCount::from, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        return new ProductFacets(total[0], categories, stock, priceRanges);
+    }
+
+    private static SqlCondition categoryCondition(ProductFilter filter) {
+        if (filter.categoryCode() == null) {
+            return SqlCondition.TRUE;
+        }
+        return filter.includeSubcategories()
+                ? new SqlCondition("category_id IN (SELECT descendant_code FROM category_closure WHERE ancestor_code = ?)",
+                        List.of(filter.categoryCode()))
+                : new SqlCondition("category_id = ?", List.of(filter.categoryCode()));
+    }
+
+    private static void appendCount(StringBuilder sql, List<Object> args, SqlCondition condition, String alias) {
+        sql.append(" COUNT(*)");
+        if (condition != SqlCondition.TRUE) {
+            sql.append(" FILTER (WHERE ").append(condition.sql()).append(")");
+            args.addAll(condition.args());
+        }
+        sql.append(" AS ").append(alias);
+    }
+
+    /**
+     * A SQL boolean expression and its positional arguments
+     */
+    private record SqlCondition(String sql, List<Object> args) {
+
+        static final SqlCondition TRUE = new SqlCondition("TRUE", List.of());
+
+        SqlCondition and(SqlCondition other) {
+            if (this == TRUE) {
+                return other;
+            }
+            if (other == TRUE) {
+                return this;
+            }
+            List<Object> combined = new ArrayList<>(args);
+            combined.addAll(other.args);
+            return new SqlCondition(sql + " AND " + other.sql, combined);
+        }
+
+        static SqlCondition anyOf(List<SqlCondition> conditions) {
+            List<Object> combined = new ArrayList<>();
+            conditions.forEach(condition -> combined.addAll(condition.args));
+            return new SqlCondition(conditions.stream().map(condition -> "(" + condition.sql + ")")
+                    .collect(Collectors.joining(" OR ", "(", ")")), combined);
+        }
+    }
+}
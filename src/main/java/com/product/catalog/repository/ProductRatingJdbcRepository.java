@@ -0,0 +1,135 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.domain.RatingDelta;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based maintenance of the review aggregates stored on products.
+ * Updates go straight to SQL so they neither load the product nor bump its optimistic-lock version.
+ */
+@Repository
+public class ProductRatingJdbcRepository {
+
+    private static final String APPLY_DELTA = """
+            UPDATE products SET
+                review_count = review_count + ?,
+                rating_sum = rating_sum + ?,
+                rating_1_count = rating_1_count + ?,
+                rating_2_count = rating_2_count + ?,
+                rating_3_count = rating_3_count + ?,
+                rating_4_count = rating_4_count + ?,
+                rating_5_count = rating_5_count + ?,
+                rating_average = CASE WHEN review_count + ? > 0
+                                      THEN ROUND(CAST(rating_sum + ? AS DECIMAL(19,4)) / (review_count + ?), 2)
+                                      ELSE 0 END,
+                rating_revision = rating_revision + 1
+            WHERE code = ?
+            """;
+
+    /**
+     * Recompute the aggregates of a code range from the reviews table and fix the rows that drifted
+     */
+    private static final String RECONCILE_RANGE = """
+            UPDATE products p SET
+                review_count = a.review_count,
+                rating_sum = a.rating_sum,
+                rating_1_count = a.rating_1_count,
+                rating_2_count = a.rating_2_count,
+                rating_3_count = a.rating_3_count,
+                rating_4_count = a.rating_4_count,
+                rating_5_count = a.rating_5_count,
+                rating_average = CASE WHEN a.review_count > 0
+                                      THEN ROUND(CAST(a.rating_sum AS DECIMAL(19,4)) / a.review_count, 2)
+                                      ELSE 0 END,
+                rating_revision = p.rating_revision + 1
+            FROM (
+                SELECT pr.code,
+                       COUNT(r.id) AS review_count,
+                       COALESCE(SUM(r.rating), 0) AS rating_sum,
+                       COUNT(*) FILTER (WHERE r.rating = 1) AS rating_1_count,
+                       COUNT(*) FILTER (WHERE r.rating = 2) AS rating_2_count,
+                       COUNT(*) FILTER (WHERE r.rating = 3) AS rating_3_count,
+                       COUNT(*) FILTER (WHERE r.rating = 4) AS rating_4_count,
+                       COUNT(*) FILTER (WHERE r.rating = 5) AS rating_5_count
+                FROM products pr
+                LEFT JOIN reviews r ON r.product_code = pr.code
+                WHERE pr.code > ? AND pr.code <= ?
+                GROUP BY pr.code
+            ) a
+            WHERE p.code = a.code
+              AND (p.review_count <> a.review_count
+                   OR p.rating_sum <> a.rating_sum
+                   OR p.rating_1_count <> a.rating_1_count
+                   OR p.rating_2_count <> a.rating_2_count
+                   OR p.rating_3_count <> a.rating_3_count
+                   OR p.rating_4_count <> a.rating_4_count
+                   OR p.rating_5_count <> a.rating_5_count)
+            RETURNING p.code
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductRatingJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Apply one product's delta; must run in the transaction that wrote the reviews.
+     *
+     * @return 1 if the product exists, otherwise 0
+     */
+    public int applyDelta(String productCode, RatingDelta delta) {
+        return jdbcTemplate.update(APPLY_DELTA, deltaArgs(productCode, delta));
+    }
+
+    /**
+     * Apply many products' deltas as one JDBC batch, one UPDATE per product
+     */
+    public void applyDeltas(Map<String, RatingDelta> deltas) {
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((productCode, delta) -> {
+            if (!delta.isEmpty()) {
+                batch.add(deltaArgs(productCode, delta));
+            }
+        });
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(APPLY_DELTA, batch);
+        }
+    }
+
+    /**
+     * Lock the next products in code order, so no review write can change them until the
+     * transaction ends. A review write already waiting for one of these rows applies its delta
+     * afterwards, on top of the reconciled value.
+     */
+    public List<String> lockProductCodes(String afterCode, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT code FROM products WHERE code > ? ORDER BY code LIMIT ? FOR UPDATE",
+                String.class, afterCode, limit);
+    }
+
+    /**
+     * Recompute aggregates for codes in (fromExclusive, toInclusive]; call after locking them.
+     *
+     * @return codes whose stored aggregates were wrong and have been corrected
+     */
+    public List<String> reconcile(String fromExclusive, String toInclusive) {
+        return jdbcTemplate.queryForList(RECONCILE_RANGE, String.class, fromExclusive, toInclusive);
+    }
+
+    private static Object[] deltaArgs(String productCode, RatingDelta delta) {
+        long count = delta.reviewCount();
+        long sum = delta.ratingSum();
+        return new Object[]{
+                count, sum,
+                delta.starCount(1), delta.starCount(2), delta.starCount(3), delta.starCount(4), delta.starCount(5),
+                count, sum, count,
+                productCode
+        };
+    }
+}
@@ -1,13 +1,19 @@
 package com.product.catalog.repository;
 
+import com.product.catalog.cache.CategoryProductCount;
+import com.product.catalog.domain.ProductRevision;
 import com.product.catalog.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,47 +21,67 @@ import java.util.Optional;
  * Provides data access methods for products
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, String> {
+public interface ProductRepository extends JpaRepository<Product, String>,
+        JpaSpecificationExecutor<Product>,
+        ProductRepositoryCustom {
 
     /**
      * Find product by code
      */
     Optional<Product> findByCode(String code);
 
+    /**
+     * Find all products with the given codes, in one query
+     */
+    List<Product> findAllByCodeIn(Collection<String> codes);
+
     /**
      * Check if product exists by code
      */
     boolean existsByCode(String code);
 
     /**
-     * Find all products with pagination
+     * Return the subset of the given codes that already exist, in one query
      */
-    Page<Product> findAll(Pageable pageable);
+    @Query("SELECT p.code FROM Product p WHERE p.code IN :codes")
+    List<String> findExistingCodes(@Param("codes") Collection<String> codes);
 
     /**
-     * Find products by category code with pagination
+     * Find the current version and rating revision of a product without loading the entity
      */
-    @Query("SELECT p FROM Product p WHERE p.category.code = :categoryCode")
-    Page<Product> findByCategoryCode(@Param("categoryCode") String categoryCode, Pageable pageable);
+    @Query("SELECT new com.product.catalog.domain.ProductRevision(p.version, p.rating.revision) "
+            + "FROM Product p WHERE p.code = :code")
+    Optional<ProductRevision> findRevisionByCode(@Param("code") String code);
 
     /**
-     * Find products by stock status with pagination
+     * Find all products with pagination
      */
-    Page<Product> findByIsInStock(boolean isInStock, Pageable pageable);
+    Page<Product> findAll(Pageable pageable);
 
     /**
-     * Find products by category and stock status with pagination
+     * Products per category in one grouped query; uncategorized products are skipped
      */
-    @Query("SELECT p FROM Product p WHERE p.category.code = :categoryCode AND p.isInStock = :isInStock")
-    Page<Product> findByCategoryCodeAndIsInStock(
-            @Param("categoryCode") String categoryCode,
-            @Param("isInStock") boolean isInStock,
-            Pageable pageable
-    );
+    @Query("SELECT new com.product.catalog.cache.CategoryProductCount(p.category.code, COUNT(p)) " +
+           "FROM Product p WHERE p.category IS NOT NULL GROUP BY p.category.code")
+    List<CategoryProductCount> countByCategory();
 
     /**
      * Delete product by code
      */
     void deleteByCode(String code);
+
+    /**
+     * Bulk delete the reviews of the given products without loading them
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Review r WHERE r.product.code IN :codes")
+    int deleteReviewsByProductCodeIn(@Param("codes") Collection<String> codes);
+
+    /**
+     * Bulk delete products without loading them; their reviews must be deleted first
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Product p WHERE p.code IN :codes")
+    int deleteByCodeIn(@Param("codes") Collection<String> codes);
 }
 
@@ -0,0 +1,18 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.entity.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom product queries that Spring Data cannot derive
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * Fetch one page without the COUNT query a Page would need.
+     * Reads pageSize + 1 rows to tell whether another page follows.
+     */
+    Slice<Product> findSlice(Specification<Product> specification, Pageable pageable);
+}
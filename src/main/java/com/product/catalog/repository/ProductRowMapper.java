@@ -0,0 +1,57 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.domain.PriceDomain;
+import com.product.catalog.domain.ProductDomain;
+import com.product.catalog.domain.RatingDomain;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps a products row straight to ProductDomain, bypassing the persistence context.
+ * Expects the columns listed in {@link #COLUMNS}.
+ */
+public class ProductRowMapper implements RowMapper<ProductDomain> {
+
+    public static final String COLUMNS = "code, name, description, base_price_value, base_price_currency, "
+            + "is_in_stock, stock_keeping_unit, category_id, catalog_code, version, "
+            + "review_count, rating_sum, rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, "
+            + "rating_average, rating_revision";
+
+    public static final ProductRowMapper INSTANCE = new ProductRowMapper();
+
+    @Override
+    public ProductDomain mapRow(ResultSet rs, int rowNum) throws SQLException {
+        PriceDomain price = rs.getBigDecimal("base_price_value") != null || rs.getString("base_price_currency") != null
+                ? new PriceDomain(rs.getBigDecimal("base_price_value"), rs.getString("base_price_currency"))
+                : null;
+
+        return ProductDomain.builder()
+                .code(rs.getString("code"))
+                .name(rs.getString("name"))
+                .description(rs.getString("description"))
+                .basePrice(price)
+                .isInStock(rs.getBoolean("is_in_stock"))
+                .stockKeepingUnit(rs.getString("stock_keeping_unit"))
+                .categoryCode(rs.getString("category_id"))
+                .catalogCode(rs.getString("catalog_code"))
+                .rating(mapRating(rs))
+                .version(rs.getLong("version"))
+                .build();
+    }
+
+    private static RatingDomain mapRating(ResultSet rs) throws SQLException {
+        RatingDomain rating = new RatingDomain();
+        rating.setReviewCount(rs.getLong("review_count"));
+        rating.setRatingSum(rs.getLong("rating_sum"));
+        rating.setOneStarCount(rs.getLong("rating_1_count"));
+        rating.setTwoStarCount(rs.getLong("rating_2_count"));
+        rating.setThreeStarCount(rs.getLong("rating_3_count"));
+        rating.setFourStarCount(rs.getLong("rating_4_count"));
+        rating.setFiveStarCount(rs.getLong("rating_5_count"));
+        rating.setAverage(rs.getBigDecimal("rating_average"));
+        rating.setRevision(rs.getLong("rating_revision"));
+        return rating;
+    }
+}
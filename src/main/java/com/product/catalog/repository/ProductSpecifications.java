@@ -0,0 +1,190 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.domain.ProductFilter;
+import com.product.catalog.entity.CategoryClosure;
+import com.product.catalog.entity.Product;
+import com.product.catalog.pagination.ProductCursor;
+import com.product.catalog.pagination.ProductSortField;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Composable JPA Specifications for product queries
+ */
+public final class ProductSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * Matches every product; starting point for composition
+     */
+    public static Specification<Product> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    /**
+     * Combine the listing criteria that are set. Values are bound as parameters, so each
+     * combination of criteria is a single entry in Hibernate's query plan cache.
+     */
+    public static Specification<Product> matching(ProductFilter filter) {
+        Specification<Product> spec = all();
+        if (filter.categoryCode() != null) {
+            spec = spec.and(filter.includeSubcategories()
+                    ? inCategorySubtree(filter.categoryCode())
+                    : hasCategoryCode(filter.categoryCode()));
+        }
+        if (filter.inStock() != null) {
+            spec = spec.and(hasStockStatus(filter.inStock()));
+        }
+        if (filter.catalogCode() != null) {
+            spec = spec.and(hasCatalogCode(filter.catalogCode()));
+        }
+        if (filter.currency() != null) {
+            spec = spec.and(hasCurrency(filter.currency()));
+        }
+        if (filter.minPrice() != null) {
+            spec = spec.and(priceAtLeast(filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            spec = spec.and(priceBelow(filter.maxPrice()));
+        }
+        if (filter.skuPrefix() != null) {
+            spec = spec.and(skuStartsWith(filter.skuPrefix()));
+        }
+        if (filter.namePrefix() != null) {
+            spec = spec.and(nameStartsWith(filter.namePrefix()));
+        }
+        return spec;
+    }
+
+    public static Specification<Product> hasCategoryCode(String categoryCode) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("code"), categoryCode);
+    }
+
+    /**
+     * Products in the category or any of its descendants: one IN subquery on the category_closure
+     * primary key instead of walking the tree
+     */
+    public static Specification<Product> inCategorySubtree(String categoryCode) {
+        return (root, query, cb) -> {
+            Subquery<String> descendants = query.subquery(String.class);
+            Root<CategoryClosure> closure = descendants.from(CategoryClosure.class);
+            descendants.select(closure.get("id").get("descendantCode"))
+                    .where(cb.equal(closure.get("id").get("ancestorCode"), categoryCode));
+            return root.get("category").get("code").in(descendants);
+        };
+    }
+
+    public static Specification<Product> hasStockStatus(boolean inStock) {
+        return (root, query, cb) -> cb.equal(root.get("isInStock"), inStock);
+    }
+
+    public static Specification<Product> hasCatalogCode(String catalogCode) {
+        return (root, query, cb) -> cb.equal(root.get("catalog").get("code"), catalogCode);
+    }
+
+    public static Specification<Product> hasCurrency(String currency) {
+        return (root, query, cb) -> cb.equal(root.get("basePrice").get("currency"), currency);
+    }
+
+    public static Specification<Product> priceAtLeast(BigDecimal minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("basePrice").get("value"), minPrice);
+    }
+
+    public static Specification<Product> priceBelow(BigDecimal maxPrice) {
+        return (root, query, cb) -> cb.lessThan(root.get("basePrice").get("value"), maxPrice);
+    }
+
+    /**
+     * Case-sensitive SKU prefix; served by the varchar_pattern_ops index on stock_keeping_unit
+     */
+    public static Specification<Product> skuStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(root.get("stockKeepingUnit"), likePrefix(prefix), LIKE_ESCAPE);
+    }
+
+    /**
+     * Case-insensitive name prefix; served by the varchar_pattern_ops index on lower(name)
+     */
+    public static Specification<Product> nameStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(
+                cb.lower(root.get("name")), likePrefix(prefix.toLowerCase(Locale.ROOT)), LIKE_ESCAPE);
+    }
+
+    /**
+     * Keyset seek predicate: rows strictly after the cursor in (sort key, code) order, within the
+     * cursor's segment. NULL keys sort last ascending and first descending, matching PostgreSQL
+     * defaults, so a listing is a non-null segment and a null segment. Each seek is one range on
+     * the (sort key, code) index, with no top-level OR, so PostgreSQL starts an index range scan at
+     * the cursor instead of reading and discarding every earlier row. Rows past the end of the
+     * cursor's segment are read with {@link #followingSegment(ProductCursor)}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Product> seekAfter(ProductCursor cursor) {
+        return (root, query, cb) -> {
+            boolean ascending = cursor.direction().isAscending();
+            Path<String> code = root.get("code");
+            Predicate codeAfter = ascending
+                    ? cb.greaterThan(code, cursor.code())
+                    : cb.lessThan(code, cursor.code());
+
+            if (cursor.sortField() == ProductSortField.CODE) {
+                return codeAfter;
+            }
+
+            Path<Comparable> key = (Path<Comparable>) path(root, cursor.sortField().getProperty());
+            Comparable value = cursor.typedValue();
+
+            if (value == null) {
+                return cb.and(cb.isNull(key), codeAfter);
+            }
+
+            // Comparisons never match NULL keys, so this stays within the non-null segment
+            return ascending
+                    ? cb.and(cb.greaterThanOrEqualTo(key, value), cb.or(cb.greaterThan(key, value), codeAfter))
+                    : cb.and(cb.lessThanOrEqualTo(key, value), cb.or(cb.lessThan(key, value), codeAfter));
+        };
+    }
+
+    /**
+     * The whole segment that follows the cursor's one: the NULL keys after an ascending non-null
+     * cursor, the non-null keys after a descending NULL cursor. Null if the cursor's segment is last.
+     */
+    public static Specification<Product> followingSegment(ProductCursor cursor) {
+        if (cursor.sortField() == ProductSortField.CODE) {
+            return null;
+        }
+        String property = cursor.sortField().getProperty();
+        boolean ascending = cursor.direction().isAscending();
+        if (ascending && cursor.value() != null) {
+            return (root, query, cb) -> cb.isNull(path(root, property));
+        }
+        if (!ascending && cursor.value() == null) {
+            return (root, query, cb) -> cb.isNotNull(path(root, property));
+        }
+        return null;
+    }
+
+    /**
+     * LIKE pattern matching values that start with prefix, escaped with {@link #LIKE_ESCAPE}
+     */
+    static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private static Path<?> path(Root<Product> root, String property) {
+        Path<?> path = root;
+        for (String segment : property.split("\\.")) {
+            path = path.get(segment);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,65 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.domain.ReviewDomain;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Write path of the review ingestion queue: multi-row inserts that bypass the persistence
+ * context, and maintenance of the monthly partitions of the reviews table.
+ */
+@Repository
+public class ReviewJdbcRepository {
+
+    /** Five bind parameters per row; keeps each statement far below the driver's 32767 limit */
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO reviews (id, comment, rating, product_code, created_date) VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert reviews with one multi-row INSERT per {@value #MAX_ROWS_PER_STATEMENT} rows.
+     * Ids and created dates must already be assigned.
+     */
+    public void insertAll(List<ReviewDomain> reviews) {
+        for (int from = 0; from < reviews.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<ReviewDomain> rows = reviews.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, reviews.size()));
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDER));
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (ReviewDomain review : rows) {
+                    ps.setString(index++, review.getId());
+                    ps.setString(index++, review.getComment());
+                    ps.setInt(index++, review.getRating());
+                    ps.setString(index++, review.getProductCode());
+                    ps.setObject(index++, review.getCreatedDate().atOffset(ZoneOffset.UTC));
+                }
+            });
+        }
+    }
+
+    /**
+     * Create any missing monthly partitions from the month of {@code from} through {@code to}
+     * (PostgreSQL only).
+     *
+     * @return number of partitions created
+     */
+    public int ensurePartitions(LocalDate from, LocalDate to) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT ensure_review_partitions(?, ?)", Integer.class, from, to);
+        return created != null ? created : 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.entity.Review;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for Review entity. Listings go through {@link ReviewSpecifications} with a
+ * row limit, never through Product.reviews.
+ */
+@Repository
+public interface ReviewRepository extends JpaRepository<Review, String>, JpaSpecificationExecutor<Review> {
+}
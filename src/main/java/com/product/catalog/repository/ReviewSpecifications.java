@@ -0,0 +1,48 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.entity.Review;
+import com.product.catalog.pagination.ReviewCursor;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+
+/**
+ * Composable JPA Specifications for review queries
+ */
+public final class ReviewSpecifications {
+
+    /**
+     * Newest first; id breaks ties so the order is total
+     */
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdDate", "id");
+
+    private ReviewSpecifications() {
+    }
+
+    /**
+     * Reviews of one product, compared on the foreign key column without joining products
+     */
+    public static Specification<Review> forProduct(String productCode) {
+        return (root, query, cb) -> cb.equal(root.get("product").get("code"), productCode);
+    }
+
+    public static Specification<Review> hasRating(Integer rating) {
+        return (root, query, cb) -> rating == null ? null : cb.equal(root.get("rating"), rating);
+    }
+
+    /**
+     * Rows after the cursor in {@link #NEWEST_FIRST} order. The leading range condition on
+     * created_date lets the index scan start at the cursor.
+     */
+    public static Specification<Review> seekAfter(ReviewCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Instant> createdDate = root.get("createdDate");
+            return cb.and(
+                    cb.lessThanOrEqualTo(createdDate, cursor.createdDate()),
+                    cb.or(cb.lessThan(createdDate, cursor.createdDate()),
+                            cb.lessThan(root.get("id"), cursor.id())));
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.product.catalog.repository;
+
+import com.product.catalog.entity.UserAccount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for UserAccount entity; roles are fetched eagerly with the account
+ */
+@Repository
+public interface UserAccountRepository extends JpaRepository<UserAccount, String> {
+}
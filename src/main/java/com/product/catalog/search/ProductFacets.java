@@ -0,0 +1,22 @@
+package com.product.catalog.search;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Facet counts for a product listing filter.
+ *
+ * Each facet is counted with every filter applied except its own, so the category facet shows
+ * what selecting another category would return. Price ranges are per currency; a null bound is open.
+ */
+public record ProductFacets(long total,
+                            List<FacetCount> categories,
+                            List<FacetCount> stock,
+                            List<PriceRangeCount> priceRanges) {
+
+    public record FacetCount(String value, long count) {
+    }
+
+    public record PriceRangeCount(String currency, BigDecimal from, BigDecimal to, long count) {
+    }
+}
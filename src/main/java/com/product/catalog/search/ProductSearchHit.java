@@ -0,0 +1,9 @@
+package com.product.catalog.search;
+
+import com.product.catalog.domain.ProductDomain;
+
+/**
+ * A product matched by full-text search with its relevance rank.
+ */
+public record ProductSearchHit(ProductDomain product, float rank) {
+}
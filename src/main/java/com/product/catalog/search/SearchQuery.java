@@ -0,0 +1,37 @@
+package com.product.catalog.search;
+
+import com.product.catalog.exception.BusinessValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free text typed by a shopper into a PostgreSQL tsquery.
+ * Only letters and digits survive, so the result is always valid to_tsquery syntax.
+ * Every term is prefix-matched and all terms must match: "pro lapt" finds "Professional Laptop".
+ */
+public final class SearchQuery {
+
+    private static final Pattern TERM = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 8;
+
+    private SearchQuery() {
+    }
+
+    public static String toPrefixTsQuery(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text != null) {
+            Matcher matcher = TERM.matcher(text.toLowerCase(Locale.ROOT));
+            while (matcher.find() && terms.size() < MAX_TERMS) {
+                terms.add(matcher.group() + ":*");
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new BusinessValidationException("Search query must contain at least one letter or digit");
+        }
+        return String.join(" & ", terms);
+    }
+}
@@ -0,0 +1,547 @@
+package com.product.catalog.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+
+/**
+ * In-memory inverted index of product code, name and SKU, keyed by character trigrams.
+ *
+ * Every word is padded with a leading and trailing blank before it is cut into trigrams, so a query
+ * shares most trigrams with a misspelt or partially typed word. Posting lists are sorted int arrays of
+ * document ids; ids are handed out in increasing order, so appending keeps them sorted. Updates and
+ * removals tombstone the old id and the index compacts itself once tombstones reach a quarter of it.
+ *
+ * Queries score candidates by Dice similarity of trigram sets, boosted when the code or name starts
+ * with the query, and keep the best K in a bounded heap. Match counts are accumulated in a hash table
+ * sized to the postings scanned, which the scan budget bounds; a few tables are pooled for reuse.
+ * Reads run in parallel; writes are exclusive.
+ */
+public class TrigramIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** Candidates must share at least this fraction of the query's trigrams */
+    private static final float MIN_MATCH_RATIO = 0.5f;
+
+    /**
+     * Postings scanned per query. Rare trigrams are scanned first, so only trigrams shared by a large
+     * part of the catalog get cut off; this bounds query latency regardless of catalog size.
+     */
+    private static final int POSTING_SCAN_BUDGET = 20_000;
+
+    private static final float PREFIX_BOOST = 1.0f;
+
+    /** Idle candidate tables kept for reuse; searches beyond this allocate and then drop their own */
+    private static final int SCRATCH_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BlockingQueue<CandidateCounts> scratchPool = new ArrayBlockingQueue<>(SCRATCH_POOL_SIZE);
+
+    private Map<Long, PostingList> postings = new HashMap<>();
+    private Map<String, Integer> docIdsByCode = new HashMap<>();
+    private String[] codes = new String[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] skus = new String[INITIAL_CAPACITY];
+    private int[] gramCounts = new int[INITIAL_CAPACITY];
+    private long[] codeLeadGrams = new long[INITIAL_CAPACITY];
+    private long[] nameLeadGrams = new long[INITIAL_CAPACITY];
+    private BitSet deleted = new BitSet();
+    private int nextDocId;
+    private int deletedCount;
+
+    /**
+     * A product returned by {@link #search}.
+     */
+    public record Suggestion(String code, String name, float score) {
+    }
+
+    /**
+     * Add a product, replacing any previous entry with the same code.
+     */
+    public void put(String code, String name, String sku) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(code);
+            addLocked(code, name, sku);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String code) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(code);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best matches for the text typed so far. The last word is treated as incomplete.
+     */
+    public List<Suggestion> search(String query, int limit) {
+        long[] queryGrams = queryGrams(query);
+        if (queryGrams.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String prefix = query.strip().toLowerCase(Locale.ROOT);
+        long prefixLeadGram = leadGram(prefix);
+
+        lock.readLock().lock();
+        try {
+            return searchLocked(queryGrams, prefix, prefixLeadGram, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of products indexed.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdsByCode.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimated retained heap of the index in bytes: posting arrays, per-document arrays and strings,
+     * hash map entries and the pooled search scratch tables.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (PostingList list : postings.values()) {
+                bytes += 16L + 4L * list.ids.length   // int[]
+                        + 24                          // PostingList
+                        + 48 + 24;                    // map entry and boxed Long key
+            }
+            bytes += 6L * 16 + (long) codes.length * (3 * 4 + 4 + 2 * 8);  // String[], int[] and long[] arrays
+            for (int docId = 0; docId < nextDocId; docId++) {
+                bytes += stringBytes(codes[docId]) + stringBytes(names[docId]) + stringBytes(skus[docId]);
+            }
+            bytes += (long) docIdsByCode.size() * (48 + 16);        // map entry and boxed Integer
+            bytes += deleted.size() / 8;
+            for (CandidateCounts pooled : scratchPool) {
+                bytes += pooled.estimatedBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Suggestion> searchLocked(long[] queryGrams, String prefix, long prefixLeadGram, int limit) {
+        PostingList[] lists = new PostingList[queryGrams.length];
+        int listCount = 0;
+        for (long gram : queryGrams) {
+            PostingList list = postings.get(gram);
+            if (list != null) {
+                lists[listCount++] = list;
+            }
+        }
+        if (listCount == 0) {
+            return List.of();
+        }
+
+        // Rarest trigrams first, so the scan budget is spent on the most selective ones
+        Arrays.sort(lists, 0, listCount, (a, b) -> Integer.compare(a.size, b.size));
+
+        // Very common trigrams are only scanned up to the budget; they add little to the ranking
+        int toScan = 0;
+        int listsScanned = 0;
+        for (int i = 0; i < listCount && toScan < POSTING_SCAN_BUDGET; i++) {
+            toScan += Math.min(lists[i].size, POSTING_SCAN_BUDGET - toScan);
+            listsScanned++;
+        }
+
+        CandidateCounts candidates = acquireScratch(toScan);
+        try {
+            int remaining = toScan;
+            for (int i = 0; i < listsScanned; i++) {
+                PostingList list = lists[i];
+                int[] ids = list.ids;
+                int end = Math.min(list.size, remaining);
+                for (int p = 0; p < end; p++) {
+                    candidates.increment(ids[p]);
+                }
+                remaining -= end;
+            }
+            return rank(candidates, queryGrams.length, listsScanned, prefix, prefixLeadGram, limit);
+        } finally {
+            candidates.clear();
+            scratchPool.offer(candidates);
+        }
+    }
+
+    private List<Suggestion> rank(CandidateCounts candidates, int queryGramCount, int listsScanned,
+                                  String prefix, long prefixLeadGram, int limit) {
+        int minMatches = Math.max(1, (int) Math.ceil(Math.min(queryGramCount, listsScanned) * MIN_MATCH_RATIO));
+        TopK top = new TopK(limit);
+        for (int c = 0; c < candidates.size(); c++) {
+            int docId = candidates.docId(c);
+            int matches = candidates.count(c);
+            if (matches < minMatches || deleted.get(docId)) {
+                continue;
+            }
+            float score = 2f * matches / (queryGramCount + gramCounts[docId]);
+            // Compare leading trigrams before touching the strings, which are scattered over the heap
+            if ((codeLeadGrams[docId] == prefixLeadGram && startsWithIgnoreCase(codes[docId], prefix))
+                    || (nameLeadGrams[docId] == prefixLeadGram && startsWithIgnoreCase(names[docId], prefix))) {
+                score += PREFIX_BOOST;
+            }
+            top.offer(score, docId);
+        }
+
+        long[] ranked = top.drainDescending();
+        List<Suggestion> suggestions = new ArrayList<>(ranked.length);
+        for (long entry : ranked) {
+            int docId = TopK.docId(entry);
+            suggestions.add(new Suggestion(codes[docId], names[docId], TopK.score(entry)));
+        }
+        return suggestions;
+    }
+
+    private CandidateCounts acquireScratch(int maxCandidates) {
+        CandidateCounts candidates = scratchPool.poll();
+        if (candidates == null) {
+            candidates = new CandidateCounts();
+        }
+        candidates.ensureCapacity(maxCandidates);
+        return candidates;
+    }
+
+    private void addLocked(String code, String name, String sku) {
+        int docId = nextDocId++;
+        if (docId == codes.length) {
+            int capacity = codes.length * 2;
+            codes = Arrays.copyOf(codes, capacity);
+            names = Arrays.copyOf(names, capacity);
+            skus = Arrays.copyOf(skus, capacity);
+            gramCounts = Arrays.copyOf(gramCounts, capacity);
+            codeLeadGrams = Arrays.copyOf(codeLeadGrams, capacity);
+            nameLeadGrams = Arrays.copyOf(nameLeadGrams, capacity);
+        }
+        codes[docId] = code;
+        codeLeadGrams[docId] = leadGram(code);
+        nameLeadGrams[docId] = leadGram(name);
+        names[docId] = name;
+        skus[docId] = sku;
+        docIdsByCode.put(code, docId);
+
+        Set<Long> grams = new HashSet<>();
+        LongConsumer sink = grams::add;
+        forEachGram(code, false, sink);
+        forEachGram(name, false, sink);
+        forEachGram(sku, false, sink);
+        gramCounts[docId] = grams.size();
+        for (Long gram : grams) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(docId);
+        }
+    }
+
+    private void removeLocked(String code) {
+        Integer docId = docIdsByCode.remove(code);
+        if (docId != null) {
+            deleted.set(docId);
+            deletedCount++;
+        }
+    }
+
+    /**
+     * Rebuild without tombstones once they make up a quarter of all document ids.
+     */
+    private void compactIfNeeded() {
+        if (deletedCount < 1024 || deletedCount * 4 < nextDocId) {
+            return;
+        }
+        String[] oldCodes = codes;
+        String[] oldNames = names;
+        String[] oldSkus = skus;
+        BitSet oldDeleted = deleted;
+        int oldNext = nextDocId;
+
+        int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, oldNext - deletedCount)) * 2);
+        postings = new HashMap<>();
+        docIdsByCode = new HashMap<>();
+        codes = new String[capacity];
+        names = new String[capacity];
+        skus = new String[capacity];
+        gramCounts = new int[capacity];
+        codeLeadGrams = new long[capacity];
+        nameLeadGrams = new long[capacity];
+        deleted = new BitSet();
+        nextDocId = 0;
+        deletedCount = 0;
+
+        for (int docId = 0; docId < oldNext; docId++) {
+            if (!oldDeleted.get(docId)) {
+                addLocked(oldCodes[docId], oldNames[docId], oldSkus[docId]);
+            }
+        }
+    }
+
+    /**
+     * Distinct trigrams of a query; the last word is left open unless the query ends with a separator.
+     */
+    static long[] queryGrams(String query) {
+        if (query == null) {
+            return new long[0];
+        }
+        boolean lastWordOpen = !query.isEmpty() && Character.isLetterOrDigit(query.charAt(query.length() - 1));
+        long[] grams = new long[16];
+        int[] count = {0};
+        forEachGram(query, lastWordOpen, gram -> {
+            for (int i = 0; i < count[0]; i++) {
+                if (grams[i] == gram) {
+                    return;
+                }
+            }
+            if (count[0] < grams.length) {
+                grams[count[0]++] = gram;
+            }
+        });
+        return Arrays.copyOf(grams, count[0]);
+    }
+
+    /**
+     * Emit the trigrams of every word in the text; words are runs of letters and digits, lower-cased
+     * and padded with a blank on both sides (only the left side for an open last word).
+     */
+    static void forEachGram(String text, boolean lastWordOpen, LongConsumer sink) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                boolean open = lastWordOpen && i == length;
+                wordGrams(text, start, i, open, sink);
+                start = -1;
+            }
+        }
+    }
+
+    private static void wordGrams(String text, int start, int end, boolean open, LongConsumer sink) {
+        // Padded word: ' ' + word + (open ? "" : " ")
+        int paddedLength = end - start + (open ? 1 : 2);
+        for (int i = 0; i + 3 <= paddedLength; i++) {
+            sink.accept(pack(
+                    paddedChar(text, start, end, i),
+                    paddedChar(text, start, end, i + 1),
+                    paddedChar(text, start, end, i + 2)));
+        }
+    }
+
+    private static char paddedChar(String text, int start, int end, int position) {
+        if (position == 0 || start + position - 1 >= end) {
+            return ' ';
+        }
+        return Character.toLowerCase(text.charAt(start + position - 1));
+    }
+
+    private static long pack(char first, char second, char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+
+    /**
+     * The first three characters, lower-cased and packed; texts sharing a prefix of three or more
+     * characters always share their lead gram.
+     */
+    private static long leadGram(String text) {
+        if (text == null || text.length() < 3) {
+            return -1L;
+        }
+        return pack(Character.toLowerCase(text.charAt(0)),
+                Character.toLowerCase(text.charAt(1)),
+                Character.toLowerCase(text.charAt(2)));
+    }
+
+    private static boolean startsWithIgnoreCase(String value, String prefix) {
+        return value != null && value.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+
+    /**
+     * Growable sorted int array of document ids.
+     */
+    private static final class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int docId) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            ids[size++] = docId;
+        }
+    }
+
+    /**
+     * Open-addressing docId to match-count table. It is sized for the postings a query scans, not for
+     * the catalog, so it stays below a load factor of one half and never grows mid-query.
+     */
+    private static final class CandidateCounts {
+        private static final int MIN_CAPACITY = 256;
+
+        /** docId + 1 per slot; 0 marks an empty slot */
+        private int[] keys = new int[MIN_CAPACITY];
+        private int[] counts = new int[MIN_CAPACITY];
+        /** Occupied slots in insertion order, for iteration and clearing */
+        private int[] slots = new int[MIN_CAPACITY / 2];
+        private int mask = MIN_CAPACITY - 1;
+        private int size;
+
+        void ensureCapacity(int maxCandidates) {
+            int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, maxCandidates)) << 2);
+            if (keys.length < capacity) {
+                keys = new int[capacity];
+                counts = new int[capacity];
+                slots = new int[capacity / 2];
+                mask = capacity - 1;
+            }
+        }
+
+        void increment(int docId) {
+            int key = docId + 1;
+            int hash = key * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                keys[slot] = key;
+                slots[size++] = slot;
+            }
+            counts[slot]++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int docId(int index) {
+            return keys[slots[index]] - 1;
+        }
+
+        int count(int index) {
+            return counts[slots[index]];
+        }
+
+        void clear() {
+            for (int i = 0; i < size; i++) {
+                keys[slots[i]] = 0;
+                counts[slots[i]] = 0;
+            }
+            size = 0;
+        }
+
+        long estimatedBytes() {
+            return 3 * 16L + 4L * (keys.length + counts.length + slots.length);
+        }
+    }
+
+    /**
+     * Bounded min-heap of (score, docId) packed into longs; equal scores prefer the lower document id.
+     */
+    private static final class TopK {
+        private final long[] heap;
+        private int size;
+
+        TopK(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(float score, int docId) {
+            long entry = ((long) Float.floatToIntBits(score) << 32) | (Integer.MAX_VALUE - docId);
+            if (size < heap.length) {
+                heap[size] = entry;
+                siftUp(size++);
+            } else if (entry > heap[0]) {
+                heap[0] = entry;
+                siftDown(0);
+            }
+        }
+
+        long[] drainDescending() {
+            long[] result = Arrays.copyOf(heap, size);
+            Arrays.sort(result);
+            for (int i = 0, j = result.length - 1; i < j; i++, j--) {
+                long swap = result[i];
+                result[i] = result[j];
+                result[j] = swap;
+            }
+            return result;
+        }
+
+        static float score(long entry) {
+            return Float.intBitsToFloat((int) (entry >>> 32));
+        }
+
+        static int docId(long entry) {
+            return Integer.MAX_VALUE - (int) entry;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= heap[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && heap[left] < heap[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && heap[right] < heap[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(smallest, index);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long value = heap[a];
+            heap[a] = heap[b];
+            heap[b] = value;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.product.catalog.search;
+
+import com.product.catalog.cache.CacheInvalidationBus;
+import com.product.catalog.cache.InvalidationTopic;
+import com.product.catalog.domain.ProductDomain;
+import com.product.catalog.repository.ProductJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a {@link TrigramIndex} of every product for autocomplete.
+ *
+ * The index is built at startup from a streaming scan of the products table and swapped in whole,
+ * so a rebuild never blocks queries. Local writes update it after their transaction commits; writes
+ * on other replicas arrive as PRODUCT invalidations and are re-read from the database. Size and
+ * estimated heap, in total and per product, are published as typeahead.index.* gauges.
+ */
+@Component
+public class TypeaheadIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TypeaheadIndex.class);
+
+    private final ProductJdbcRepository productJdbcRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+
+    private volatile TrigramIndex index = new TrigramIndex();
+    private volatile boolean rebuilding;
+    private final Set<String> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public TypeaheadIndex(ProductJdbcRepository productJdbcRepository,
+                          PlatformTransactionManager transactionManager,
+                          CacheInvalidationBus invalidationBus,
+                          MeterRegistry meterRegistry,
+                          @Value("${catalog.search.typeahead.fetch-size:5000}") int fetchSize) {
+        this.productJdbcRepository = productJdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+
+        invalidationBus.subscribe(InvalidationTopic.PRODUCT, this::reload);
+        invalidationBus.onConnectionStateChange(() -> { }, this::rebuild);
+
+        Gauge.builder("typeahead.index.products", this, typeahead -> typeahead.index.size())
+                .description("Products in the autocomplete index")
+                .register(meterRegistry);
+        Gauge.builder("typeahead.index.memory", this, typeahead -> typeahead.index.estimatedBytes())
+                .description("Estimated heap used by the autocomplete index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("typeahead.index.memory.per.product", this, TypeaheadIndex::bytesPerProduct)
+                .description("Estimated heap used by the autocomplete index per product")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public List<TrigramIndex.Suggestion> suggest(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Build a fresh index from the database and swap it in. Products changed while the scan was
+     * running are re-read afterwards.
+     */
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+
+        TrigramIndex fresh = new TrigramIndex();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> productJdbcRepository.streamProducts(
+                    null, null, null, fetchSize,
+                    product -> fresh.put(product.getCode(), product.getName(), product.getStockKeepingUnit())));
+        } catch (RuntimeException ex) {
+            rebuilding = false;
+            log.warn("Typeahead index build failed, keeping the previous index: {}", ex.getMessage());
+            return;
+        }
+
+        index = fresh;
+        rebuilding = false;
+        if (!changedDuringRebuild.isEmpty()) {
+            Set<String> changed = new HashSet<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(changed);
+            reload(changed);
+        }
+
+        log.info("Typeahead index built - products: {}, estimated memory: {} bytes ({} bytes/product), took {} ms",
+                fresh.size(), fresh.estimatedBytes(), (long) bytesPerProduct(this),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Index the given products once the surrounding transaction commits.
+     */
+    public void indexAfterCommit(Collection<ProductDomain> products) {
+        List<ProductDomain> snapshot = List.copyOf(products);
+        afterCommit(() -> snapshot.forEach(this::put));
+    }
+
+    /**
+     * Remove the given products once the surrounding transaction commits.
+     */
+    public void removeAfterCommit(Collection<String> codes) {
+        List<String> snapshot = List.copyOf(codes);
+        afterCommit(() -> snapshot.forEach(this::remove));
+    }
+
+    /**
+     * Re-read products from the database, indexing those that exist and dropping the rest.
+     */
+    public void reload(Collection<String> codes) {
+        Set<String> missing = new HashSet<>(codes);
+        for (ProductDomain product : productJdbcRepository.findByCodes(codes)) {
+            put(product);
+            missing.remove(product.getCode());
+        }
+        missing.forEach(this::remove);
+    }
+
+    private void put(ProductDomain product) {
+        index.put(product.getCode(), product.getName(), product.getStockKeepingUnit());
+        if (rebuilding) {
+            changedDuringRebuild.add(product.getCode());
+        }
+    }
+
+    private void remove(String code) {
+        index.remove(code);
+        if (rebuilding) {
+            changedDuringRebuild.add(code);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static double bytesPerProduct(TypeaheadIndex typeahead) {
+        TrigramIndex current = typeahead.index;
+        int size = current.size();
+        return size == 0 ? 0 : (double) current.estimatedBytes() / size;
+    }
+}
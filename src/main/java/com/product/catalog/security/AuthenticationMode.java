@@ -0,0 +1,27 @@
+package com.product.catalog.security;
+
+import java.util.Locale;
+
+/**
+ * How JwtAuthenticationFilter turns a verified token into an Authentication
+ */
+public enum AuthenticationMode {
+
+    /** Principal and authorities come from the token claims; no user lookup per request */
+    STATELESS,
+
+    /** The user is loaded through UserDetailsService on every request */
+    LOOKUP;
+
+    /**
+     * Parse the jwt.authentication-mode property, case-insensitively
+     */
+    public static AuthenticationMode fromProperty(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported jwt.authentication-mode '" + value
+                    + "', expected stateless or lookup", ex);
+        }
+    }
+}
@@ -1,53 +1,65 @@
 package com.product.catalog.security;
 
+import com.product.catalog.cache.UserDetailsCache;
+import com.product.catalog.cache.UserRef;
+import com.product.catalog.repository.UserAccountRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-
 /**
  * Custom UserDetailsService implementation
- * For production, this should load users from a database
- * Currently uses in-memory users for demonstration
+ * Loads users from the users table through UserDetailsCache. Password hashes are stored
+ * encoded, so a lookup never hashes anything; only login verifies a password.
  */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private static final Logger log = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
-    private final PasswordEncoder passwordEncoder;
+    private final UserAccountRepository userAccountRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    public CustomUserDetailsService(PasswordEncoder passwordEncoder) {
-        this.passwordEncoder = passwordEncoder;
+    public CustomUserDetailsService(UserAccountRepository userAccountRepository, UserDetailsCache userDetailsCache) {
+        this.userAccountRepository = userAccountRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        log.debug("Loading user by username: {}", username);
+        return toUserDetails(loadUserRef(username));
+    }
 
-        // TODO: In production, load user from database
-        // This is a simple in-memory implementation for demonstration
-
-        if ("admin".equals(username)) {
-            return User.builder()
-                    .username("admin")
-                    .password(passwordEncoder.encode("admin123"))
-                    .authorities(new ArrayList<>())
-                    .build();
-        } else if ("user".equals(username)) {
-            return User.builder()
-                    .username("user")
-                    .password(passwordEncoder.encode("user123"))
-                    .authorities(new ArrayList<>())
-                    .build();
+    /**
+     * The cached user row, including when its password was last changed
+     */
+    public UserRef loadUserRef(String username) throws UsernameNotFoundException {
+        UserRef user = userDetailsCache.get(username, this::loadUser);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found: " + username);
         }
+        return user;
+    }
 
-        throw new UsernameNotFoundException("User not found: " + username);
+    public UserDetails toUserDetails(UserRef user) {
+        return User.builder()
+                .username(user.username())
+                .password(user.passwordHash())
+                .disabled(!user.enabled())
+                .authorities(user.roles().stream().map(role -> new SimpleGrantedAuthority("ROLE_" + role)).toList())
+                .build();
+    }
+
+    private UserRef loadUser(String username) {
+        log.debug("Loading user by username: {}", username);
+        return userAccountRepository.findById(username)
+                .map(account -> new UserRef(account.getUsername(), account.getPasswordHash(), account.isEnabled(),
+                        account.getRoles(), account.getPasswordChangedAt()))
+                .orElse(null);
     }
 }
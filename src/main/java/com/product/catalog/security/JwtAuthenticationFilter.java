@@ -1,15 +1,19 @@
 package com.product.catalog.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -21,6 +25,11 @@ import java.io.IOException;
 /**
  * JWT Authentication Filter
  * Intercepts requests to validate JWT tokens
+ *
+ * In {@link AuthenticationMode#STATELESS} mode the principal is built from the verified claims
+ * alone; in {@link AuthenticationMode#LOOKUP} mode the user is loaded for every request. Both
+ * modes consult the {@link TokenRevocationChecker} when one is configured. Refresh tokens never
+ * authenticate a request.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -29,11 +38,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtTokenUtil;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationChecker revocationChecker;
+    private final AuthenticationMode mode;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil,
+                                   UserDetailsService userDetailsService,
+                                   ObjectProvider<TokenRevocationChecker> revocationChecker,
+                                   @Value("${jwt.authentication-mode:stateless}") String mode) {
         this.jwtTokenUtil = jwtTokenUtil;
         this.userDetailsService = userDetailsService;
+        this.revocationChecker = revocationChecker.getIfAvailable(() -> TokenRevocationChecker.NONE);
+        this.mode = AuthenticationMode.fromProperty(mode);
+        log.info("JWT authentication mode: {}", this.mode);
     }
 
     @Override
@@ -45,28 +62,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        Claims claims = null;
 
-        // Extract JWT token from Authorization header
+        // Extract and verify the JWT from the Authorization header, once per request
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String token = authorizationHeader.substring(7);
             if (!token.isBlank()) {
-                jwt = token;
                 try {
-                    username = jwtTokenUtil.extractUsername(jwt);
+                    claims = jwtTokenUtil.verify(token);
+                    if (jwtTokenUtil.isRefreshToken(claims)) {
+                        // Refresh tokens are only accepted by /api/v1/auth/refresh
+                        log.debug("Refresh token presented as access token for user: {}", claims.getSubject());
+                        claims = null;
+                    }
                 } catch (Exception e) {
-                    log.error("Error extracting username from JWT: {}", e.getMessage());
+                    log.error("Error verifying JWT: {}", e.getMessage());
                 }
             }
         }
 
         // Validate token and set authentication
+        String username = claims != null ? claims.getSubject() : null;
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
             try {
-                if (jwtTokenUtil.validateToken(jwt, userDetails)) {
+                UserDetails userDetails = resolvePrincipal(claims);
+                if (userDetails != null && !revocationChecker.isRevoked(claims)) {
                     UsernamePasswordAuthenticationToken authenticationToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -88,4 +108,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * The principal for verified claims, or null if the token does not match the user
+     */
+    private UserDetails resolvePrincipal(Claims claims) {
+        if (mode == AuthenticationMode.STATELESS) {
+            return User.withUsername(claims.getSubject())
+                    .password("")
+                    .authorities(jwtTokenUtil.extractAuthorities(claims))
+                    .build();
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        return userDetails.isEnabled() && jwtTokenUtil.validateClaims(claims, userDetails) ? userDetails : null;
+    }
 }
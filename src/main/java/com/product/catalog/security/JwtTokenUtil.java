@@ -1,9 +1,16 @@
 package com.product.catalog.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
@@ -11,32 +18,78 @@ import org.slf4j.LoggerFactory;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
  * Utility for generating and validating JWT tokens.
  * Uses modern JJWT 0.12+ API for token generation and parsing.
+ *
+ * The signing key and parser are built once per secret and reused. Verified claims are cached by
+ * SHA-256 of the token until the token expires, so a client reusing its token skips the HMAC
+ * check and JSON parsing on every call after the first.
+ *
+ * Every token carries a random jti claim so it can be revoked individually.
  */
 @Component
 public class JwtTokenUtil {
 
     private static final Logger log = LoggerFactory.getLogger(JwtTokenUtil.class);
 
+    /** Claim holding the granted authority names, e.g. ["ROLE_ADMIN", "ROLE_USER"] */
+    public static final String AUTHORITIES_CLAIM = "roles";
+
+    /** Claim naming what a token may be used for; only refresh tokens carry it */
+    public static final String TOKEN_USE_CLAIM = "token_use";
+
+    public static final String REFRESH_TOKEN_USE = "refresh";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration:86400000}")
     private long jwtExpirationMs;
 
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpirationMs = 1_209_600_000L;
+
+    @Value("${jwt.verified-cache.max-entries:10000}")
+    private long verifiedCacheMaxEntries = 10_000;
+
+    private volatile Verifier verifier;
+
+    /**
+     * Verifier for the current secret, built on first use and rebuilt only if the secret changes.
+     */
+    private Verifier verifier() {
+        Verifier current = verifier;
+        // Identity check: the secret is injected once, so this only rebuilds if it is replaced
+        if (current == null || current.secret != secret) {
+            current = new Verifier(secret, verifiedCacheMaxEntries);
+            verifier = current;
+        }
+        return current;
+    }
+
     /**
-     * Get the signing key for JWT operations.
-     * Uses HMAC-SHA algorithm with the configured secret.
+     * Verify the signature and expiration of a token once and return its claims.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     * @throws IllegalArgumentException     if the token is null or blank
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public Claims verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT must not be null or blank");
+        }
+        return verifier().verify(token);
     }
 
     /**
@@ -57,44 +110,50 @@ public class JwtTokenUtil {
      * Extract a specific claim from JWT token using a claims resolver function.
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = parseClaims(token);
+        final Claims claims = verify(token);
         return claimsResolver.apply(claims);
     }
 
     /**
-     * Parse and validate JWT token to extract claims.
-     * Uses modern parserBuilder API.
+     * Authorities embedded in verified claims; empty for tokens issued without them.
      */
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        Object value = claims.get(AUTHORITIES_CLAIM);
+        if (!(value instanceof Collection<?> names)) {
+            return List.of();
+        }
+        return names.stream()
+                .map(name -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(name)))
+                .toList();
     }
 
     /**
-     * Check if the token has expired.
+     * Whether verified claims belong to a refresh token, which must not authenticate API calls.
      */
-    private boolean isTokenExpired(String token) {
-        Date expiration = extractExpiration(token);
-        return expiration.before(new Date());
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_USE.equals(claims.get(TOKEN_USE_CLAIM));
     }
 
     /**
      * Validate JWT token against user details.
-     * Checks username match and expiration.
+     * Checks signature, username match and expiration.
      */
     public boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            return validateClaims(verify(token), userDetails);
         } catch (Exception e) {
             log.warn("JWT validation failed: {}", e.getMessage());
             return false;
         }
     }
 
+    /**
+     * Validate already verified claims against user details, without parsing the token again.
+     */
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject()) && !isExpired(claims);
+    }
+
     /**
      * Generate a new JWT token for the given user.
      * Uses modern builder API with proper typing.
@@ -104,10 +163,32 @@ public class JwtTokenUtil {
         Instant expiration = now.plusMillis(jwtExpirationMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(userDetails.getUsername())
+                .claim(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiration))
+                .signWith(verifier().key)
+                .compact();
+    }
+
+    /**
+     * Generate a long-lived refresh token for the given user.
+     * It carries no authorities; they are loaded again when it is exchanged.
+     */
+    public String generateRefreshToken(UserDetails userDetails) {
+        Instant now = Instant.now();
+        Instant expiration = now.plusMillis(refreshExpirationMs);
+
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userDetails.getUsername())
+                .claim(TOKEN_USE_CLAIM, REFRESH_TOKEN_USE)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
-                .signWith(getSigningKey())
+                .signWith(verifier().key)
                 .compact();
     }
 
@@ -118,4 +199,62 @@ public class JwtTokenUtil {
     public long getExpirationInSeconds() {
         return jwtExpirationMs / 1000L;
     }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    /**
+     * Immutable key, parser and verified-claims cache for one secret.
+     */
+    private static final class Verifier {
+
+        private final String secret;
+        private final SecretKey key;
+        private final JwtParser parser;
+        private final Cache<String, Claims> verified;
+
+        private Verifier(String secret, long maxEntries) {
+            this.secret = secret;
+            this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            this.parser = Jwts.parser().verifyWith(key).build();
+            this.verified = Caffeine.newBuilder()
+                    .maximumSize(maxEntries)
+                    .expireAfter(Expiry.creating((String tokenHash, Claims claims) -> timeToExpiry(claims)))
+                    .build();
+        }
+
+        private Claims verify(String token) {
+            String tokenHash = sha256(token);
+            Claims claims = verified.getIfPresent(tokenHash);
+            if (claims != null && !isExpired(claims)) {
+                return claims;
+            }
+
+            claims = parser.parseSignedClaims(token).getPayload();
+            if (isExpired(claims)) {
+                throw new ExpiredJwtException(null, claims, "JWT expired");
+            }
+            verified.put(tokenHash, claims);
+            return claims;
+        }
+
+        private static Duration timeToExpiry(Claims claims) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return Duration.ZERO;
+            }
+            return Duration.ofMillis(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        private static String sha256(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+                return Base64.getEncoder().encodeToString(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package com.product.catalog.security;
+
+import com.product.catalog.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs password logins on a small dedicated pool so a burst of BCrypt checks cannot take the
+ * request threads and CPU that serve catalog reads.
+ *
+ * Logins beyond the pool and its bounded queue, or still waiting after the timeout, are refused
+ * with 503 and a Retry-After header instead of piling up.
+ */
+@Component
+public class LoginBulkhead {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginBulkhead.class);
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public LoginBulkhead(@Value("${catalog.security.login.threads:0}") int threads,
+                         @Value("${catalog.security.login.queue-capacity:32}") int queueCapacity,
+                         @Value("${catalog.security.login.timeout:5s}") Duration timeout) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("login-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+        log.info("Login bulkhead: {} threads, queue capacity {}, timeout {}", poolSize, queueCapacity, timeout);
+    }
+
+    /**
+     * Run a login on the bulkhead pool and wait for its result.
+     *
+     * @throws ServiceUnavailableException if the pool is saturated or the login does not finish in time
+     */
+    public <T> T execute(Supplier<T> login) {
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                try {
+                    return login.get();
+                } finally {
+                    // pool threads are reused; never leave one user's context behind
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Too many concurrent logins, retry later", RETRY_AFTER);
+        }
+
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // a cancelled login still queued is skipped when a pool thread reaches it
+            result.cancel(true);
+            throw new ServiceUnavailableException("Login timed out waiting for capacity, retry later", RETRY_AFTER);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Login interrupted, retry later", RETRY_AFTER);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Login failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,139 @@
+package com.product.catalog.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.product.catalog.cache.CacheInvalidationBus;
+import com.product.catalog.cache.InvalidationTopic;
+import com.product.catalog.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers {@link TokenRevocationChecker} from a Bloom filter of revoked jti values.
+ *
+ * Tokens that miss the filter (nearly all of them) are accepted without allocating or touching
+ * the database. Filter hits are confirmed against the revoked_tokens table, and the answer is
+ * cached. The filter is rebuilt from the table on startup, when the invalidation listener
+ * reconnects and on demand; single revocations arrive through {@link CacheInvalidationBus}.
+ */
+@Component
+public class RevokedTokenIndex implements TokenRevocationChecker {
+
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenIndex.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Cache<String, Boolean> confirmed;
+    /** Revocations seen since the current rebuild started; replayed into the new filter */
+    private final Set<String> sinceRebuild = ConcurrentHashMap.newKeySet();
+    private final Object rebuildLock = new Object();
+
+    private volatile BloomFilter filter;
+
+    public RevokedTokenIndex(RevokedTokenRepository revokedTokenRepository,
+                             CacheInvalidationBus invalidationBus,
+                             @Value("${catalog.security.revocation.expected-insertions:100000}") long expectedInsertions,
+                             @Value("${catalog.security.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                             @Value("${catalog.security.revocation.confirmed-cache.max-entries:10000}") long confirmedMaxEntries) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.invalidationBus = invalidationBus;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(confirmedMaxEntries)
+                .build();
+
+        invalidationBus.subscribe(InvalidationTopic.TOKEN_REVOCATION, this::addAll);
+        // Revocations may have been missed while disconnected
+        invalidationBus.onConnectionStateChange(() -> { }, this::rebuild);
+    }
+
+    @Override
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null || !filter().mightContain(jti)) {
+            return false;
+        }
+        return confirmed.get(jti, revokedTokenRepository::existsById);
+    }
+
+    /**
+     * Add the jti here after the surrounding transaction commits, and on other replicas.
+     */
+    public void addAfterCommit(String jti) {
+        List<String> keys = List.of(jti);
+        invalidationBus.publish(InvalidationTopic.TOKEN_REVOCATION, keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addAll(keys);
+                }
+            });
+        } else {
+            addAll(keys);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Reload unexpired revocations into a new filter sized for them and swap it in.
+     * Expired revocations drop out, so the filter does not fill up over time.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            sinceRebuild.clear();
+            List<String> jtis = revokedTokenRepository.findActiveJtis(Instant.now());
+
+            BloomFilter next = new BloomFilter(Math.max(expectedInsertions, 2L * jtis.size()), falsePositiveRate);
+            jtis.forEach(next::put);
+            filter = next;
+            // Revocations added to the previous filter while loading
+            sinceRebuild.forEach(next::put);
+
+            confirmed.invalidateAll();
+            log.info("Revoked token filter rebuilt with {} active revocation(s)", jtis.size());
+        }
+    }
+
+    private BloomFilter filter() {
+        BloomFilter current = filter;
+        if (current == null) {
+            rebuild();
+            current = filter;
+        }
+        return current;
+    }
+
+    private void addAll(Collection<String> jtis) {
+        for (String jti : jtis) {
+            sinceRebuild.add(jti);
+            BloomFilter current = filter;
+            if (current != null) {
+                current.put(jti);
+            }
+            confirmed.invalidate(jti);
+        }
+    }
+}
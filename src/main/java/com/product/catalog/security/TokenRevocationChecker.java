@@ -0,0 +1,15 @@
+package com.product.catalog.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Hook consulted for every verified token before it authenticates a request.
+ * Implementations must answer from memory; they run on every API call.
+ */
+public interface TokenRevocationChecker {
+
+    /** Accepts every token; used when no checker bean is defined */
+    TokenRevocationChecker NONE = claims -> false;
+
+    boolean isRevoked(Claims claims);
+}
@@ -0,0 +1,49 @@
+package com.product.catalog.security;
+
+import com.product.catalog.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Creates the initial admin and user accounts on first startup, hashing their passwords once.
+ * Existing accounts are never touched, so later password changes survive restarts.
+ */
+@Component
+public class UserBootstrap {
+
+    private static final Logger log = LoggerFactory.getLogger(UserBootstrap.class);
+
+    private final UserService userService;
+    private final String adminPassword;
+    private final String userPassword;
+
+    public UserBootstrap(UserService userService,
+                         @Value("${catalog.security.bootstrap.admin-password:admin123}") String adminPassword,
+                         @Value("${catalog.security.bootstrap.user-password:user123}") String userPassword) {
+        this.userService = userService;
+        this.adminPassword = adminPassword;
+        this.userPassword = userPassword;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createInitialUsers() {
+        createIfAbsent("admin", adminPassword, Set.of("ADMIN", "USER"));
+        createIfAbsent("user", userPassword, Set.of("USER"));
+    }
+
+    private void createIfAbsent(String username, String password, Set<String> roles) {
+        try {
+            userService.createUserIfAbsent(username, password, roles);
+        } catch (DataIntegrityViolationException ex) {
+            // Another replica created it first
+            log.debug("User {} already created: {}", username, ex.getMessage());
+        }
+    }
+}
@@ -5,5 +5,9 @@ import com.product.catalog.dto.LoginResponse;
 
 public interface AuthService {
     LoginResponse authenticate(LoginRequest request);
-}
 
+    /**
+     * Issue a new access token for a valid refresh token, without checking a password.
+     */
+    LoginResponse refresh(String refreshToken);
+}
@@ -0,0 +1,17 @@
+package com.product.catalog.service;
+
+import com.product.catalog.cache.CategoryNode;
+import com.product.catalog.cache.CategoryTree;
+
+public interface CategoryService {
+
+    /**
+     * The whole category tree with product counts, served from memory
+     */
+    CategoryTree getCategoryTree();
+
+    /**
+     * One category and everything below it
+     */
+    CategoryNode getCategorySubtree(String code);
+}
@@ -0,0 +1,10 @@
+package com.product.catalog.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ProductExportService {
+
+    void exportProducts(String catalogCode, String categoryCode, String afterCode, OutputStream outputStream)
+            throws IOException;
+}
@@ -0,0 +1,24 @@
+package com.product.catalog.service;
+
+import com.product.catalog.entity.ProductImportJob;
+import com.product.catalog.importer.ImportRejection;
+import com.product.catalog.importer.ProductImportFormat;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface ProductImportService {
+
+    /**
+     * Import products from the stream. With a jobId the import resumes after that job's last
+     * committed chunk; the client must resend the same file.
+     *
+     * @throws com.product.catalog.exception.ProductImportFailedException if the import stops part
+     *         way; it carries the failed job, whose id can be used to resume
+     */
+    ProductImportJob importProducts(ProductImportFormat format, String jobId, InputStream inputStream);
+
+    ProductImportJob getImportJob(String jobId);
+
+    List<ImportRejection> getRejections(String jobId, long afterLine, int size);
+}
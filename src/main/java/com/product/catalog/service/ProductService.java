@@ -1,11 +1,22 @@
 package com.product.catalog.service;
 
 import com.product.catalog.domain.ProductDomain;
+import com.product.catalog.domain.ProductFilter;
+import com.product.catalog.domain.ProductRevision;
 import com.product.catalog.dto.PatchProductRequest;
+import com.product.catalog.pagination.CursorPage;
+import com.product.catalog.pagination.ProductSortField;
+import com.product.catalog.pagination.TotalCountMode;
+import com.product.catalog.search.ProductFacets;
+import com.product.catalog.search.TrigramIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface ProductService {
 
@@ -15,9 +26,37 @@ public interface ProductService {
 
     ProductDomain getProductByCode(String code);
 
+    Optional<ProductRevision> getProductRevision(String code);
+
+    /**
+     * Fetch many products at once. The result only holds the codes that exist.
+     */
+    Map<String, ProductDomain> getProductsByCodes(List<String> codes);
+
     Page<ProductDomain> getAllProducts(Pageable pageable);
 
-    Page<ProductDomain> getProductsWithFilters(String categoryCode, Boolean inStock, Pageable pageable);
+    Page<ProductDomain> getProductsWithFilters(ProductFilter filter, Pageable pageable);
+
+    /**
+     * Typo-tolerant prefix suggestions over product code, name and SKU.
+     */
+    List<TrigramIndex.Suggestion> suggestProducts(String query, int limit);
+
+    /**
+     * Ranked full-text search over name, description and SKU, paged with an opaque cursor.
+     */
+    CursorPage<ProductDomain> searchProducts(String query, String categoryCode, Boolean inStock, String cursor, int size);
+
+    Slice<ProductDomain> getProductsWithFilters(ProductFilter filter, Pageable pageable, TotalCountMode totalCountMode);
+
+    /**
+     * Facet counts (category, stock, price range) for the listing filters, from one grouped query.
+     */
+    ProductFacets getProductFacets(ProductFilter filter);
+
+    CursorPage<ProductDomain> getProductsByCursor(ProductFilter filter,
+                                                  ProductSortField sortField, Sort.Direction direction,
+                                                  String cursor, int size);
 
     ProductDomain updateProduct(String code, ProductDomain productDomain);
 
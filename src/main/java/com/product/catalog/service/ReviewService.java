@@ -0,0 +1,22 @@
+package com.product.catalog.service;
+
+import com.product.catalog.domain.ReviewDomain;
+import com.product.catalog.pagination.CursorPage;
+
+public interface ReviewService {
+
+    /**
+     * One page of a product's reviews, newest first, optionally only those with the given rating
+     */
+    CursorPage<ReviewDomain> getReviews(String productCode, Integer rating, String cursor, int size);
+
+    /**
+     * Accept a review for asynchronous writing; the returned review has its id and created date
+     */
+    ReviewDomain addReview(String productCode, ReviewDomain reviewDomain);
+
+    /**
+     * Delete a review and take its rating back out of the product's aggregates
+     */
+    void deleteReview(String productCode, String reviewId);
+}
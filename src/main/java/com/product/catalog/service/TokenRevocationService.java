@@ -0,0 +1,18 @@
+package com.product.catalog.service;
+
+public interface TokenRevocationService {
+
+    /**
+     * Revoke an access or refresh token before it expires, on every replica
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     */
+    void revoke(String token);
+
+    /**
+     * Delete revocations of tokens that have expired anyway
+     *
+     * @return number of rows deleted
+     */
+    int purgeExpired();
+}
@@ -0,0 +1,18 @@
+package com.product.catalog.service;
+
+import java.util.Set;
+
+public interface UserService {
+
+    /**
+     * Create the user unless it already exists; the password is hashed once here
+     *
+     * @return true if the user was created
+     */
+    boolean createUserIfAbsent(String username, String rawPassword, Set<String> roles);
+
+    /**
+     * Verify the current password, store the hash of the new one and evict the cached user
+     */
+    void changePassword(String username, String currentPassword, String newPassword);
+}
@@ -1,19 +1,27 @@
 package com.product.catalog.service.impl;
 
+import com.product.catalog.cache.UserRef;
 import com.product.catalog.dto.LoginRequest;
 import com.product.catalog.dto.LoginResponse;
 import com.product.catalog.service.AuthService;
+import com.product.catalog.security.CustomUserDetailsService;
 import com.product.catalog.security.JwtTokenUtil;
+import com.product.catalog.security.TokenRevocationChecker;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
 @Service
 public class AuthServiceImpl implements AuthService {
 
@@ -21,12 +29,15 @@ public class AuthServiceImpl implements AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenUtil jwtTokenUtil;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationChecker revocationChecker;
 
-    public AuthServiceImpl(AuthenticationManager authenticationManager, JwtTokenUtil jwtTokenUtil, UserDetailsService userDetailsService) {
+    public AuthServiceImpl(AuthenticationManager authenticationManager, JwtTokenUtil jwtTokenUtil,
+                           CustomUserDetailsService userDetailsService, TokenRevocationChecker revocationChecker) {
         this.authenticationManager = authenticationManager;
         this.jwtTokenUtil = jwtTokenUtil;
         this.userDetailsService = userDetailsService;
+        this.revocationChecker = revocationChecker;
     }
 
     @Override
@@ -43,6 +54,52 @@ public class AuthServiceImpl implements AuthService {
         String token = jwtTokenUtil.generateToken(userDetails);
         long expiresIn = jwtTokenUtil.getExpirationInSeconds();
         log.debug("User {} authenticated successfully", request.getUsername());
-        return new LoginResponse(token, "Bearer", expiresIn);
+        LoginResponse response = new LoginResponse(token, "Bearer", expiresIn);
+        response.setRefreshToken(jwtTokenUtil.generateRefreshToken(userDetails));
+        return response;
+    }
+
+    @Override
+    public LoginResponse refresh(String refreshToken) {
+        // HMAC check only; the password is not verified again
+        Claims claims = jwtTokenUtil.verify(refreshToken);
+        if (!jwtTokenUtil.isRefreshToken(claims)) {
+            throw new BadCredentialsException("Not a refresh token");
+        }
+        if (revocationChecker.isRevoked(claims)) {
+            throw new BadCredentialsException("Refresh token has been revoked");
+        }
+
+        // cached lookup, so disabled accounts, role and password changes apply from the next refresh
+        UserRef user = userDetailsService.loadUserRef(claims.getSubject());
+        if (!user.enabled()) {
+            throw new DisabledException("User is disabled");
+        }
+        if (issuedBeforePasswordChange(claims, user)) {
+            throw new BadCredentialsException("Refresh token was issued before the last password change");
+        }
+
+        UserDetails userDetails = userDetailsService.toUserDetails(user);
+
+        String token = jwtTokenUtil.generateToken(userDetails);
+        long expiresIn = jwtTokenUtil.getExpirationInSeconds();
+        log.debug("Access token refreshed for user {}", userDetails.getUsername());
+        LoginResponse response = new LoginResponse(token, "Bearer", expiresIn);
+        response.setRefreshToken(refreshToken);
+        return response;
+    }
+
+    /**
+     * iat has one-second resolution, so the change time is truncated before comparing
+     */
+    private static boolean issuedBeforePasswordChange(Claims claims, UserRef user) {
+        if (user.passwordChangedAt() == null) {
+            return false;
+        }
+        if (claims.getIssuedAt() == null) {
+            return true;
+        }
+        Instant changedAt = user.passwordChangedAt().truncatedTo(ChronoUnit.SECONDS);
+        return claims.getIssuedAt().toInstant().isBefore(changedAt);
     }
 }
@@ -0,0 +1,36 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.cache.CategoryNode;
+import com.product.catalog.cache.CategoryTree;
+import com.product.catalog.cache.CategoryTreeCache;
+import com.product.catalog.exception.ResourceNotFoundException;
+import com.product.catalog.service.CategoryService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of CategoryService
+ * Reads come from CategoryTreeCache and never open a transaction
+ */
+@Service
+public class CategoryServiceImpl implements CategoryService {
+
+    private final CategoryTreeCache categoryTreeCache;
+
+    public CategoryServiceImpl(CategoryTreeCache categoryTreeCache) {
+        this.categoryTreeCache = categoryTreeCache;
+    }
+
+    @Override
+    public CategoryTree getCategoryTree() {
+        return categoryTreeCache.current();
+    }
+
+    @Override
+    public CategoryNode getCategorySubtree(String code) {
+        CategoryNode node = categoryTreeCache.current().findNode(code);
+        if (node == null) {
+            throw new ResourceNotFoundException("Category", "code", code);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,84 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.mapper.ProductMapper;
+import com.product.catalog.repository.ProductJdbcRepository;
+import com.product.catalog.service.ProductExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams the catalog as newline-delimited JSON.
+ *
+ * Rows are read through a forward-only JDBC cursor and written to the response one by one, so
+ * heap use does not depend on catalog size. Output is ordered by code; a client that loses the
+ * connection resumes by passing the last code it received as afterCode.
+ */
+@Service
+public class ProductExportServiceImpl implements ProductExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductExportServiceImpl.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ProductJdbcRepository productJdbcRepository;
+    private final ProductMapper productMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+    private final int flushEvery;
+
+    public ProductExportServiceImpl(ProductJdbcRepository productJdbcRepository,
+                                    ProductMapper productMapper,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${catalog.export.fetch-size:5000}") int fetchSize,
+                                    @Value("${catalog.export.flush-every:1000}") int flushEvery) {
+        this.productJdbcRepository = productJdbcRepository;
+        this.productMapper = productMapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+    }
+
+    @Override
+    public void exportProducts(String catalogCode, String categoryCode, String afterCode, OutputStream outputStream)
+            throws IOException {
+        log.info("Exporting products - catalog: {}, category: {}, after: {}", catalogCode, categoryCode, afterCode);
+
+        BufferedOutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        long[] exported = {0};
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    productJdbcRepository.streamProducts(catalogCode, categoryCode, afterCode, fetchSize, product -> {
+                        try {
+                            out.write(objectMapper.writeValueAsBytes(productMapper.domainToResponse(product)));
+                            out.write('\n');
+                            if (++exported[0] % flushEvery == 0) {
+                                out.flush();
+                            }
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    }));
+        } catch (UncheckedIOException ex) {
+            log.warn("Product export aborted after {} rows: {}", exported[0], ex.getMessage());
+            throw ex.getCause();
+        }
+
+        out.flush();
+        log.info("Exported {} products", exported[0]);
+    }
+}
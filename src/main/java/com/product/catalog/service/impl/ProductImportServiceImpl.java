@@ -0,0 +1,245 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.cache.ProductCache;
+import com.product.catalog.domain.ProductDomain;
+import com.product.catalog.entity.ImportStatus;
+import com.product.catalog.entity.ProductImportJob;
+import com.product.catalog.exception.BusinessValidationException;
+import com.product.catalog.exception.ProductImportFailedException;
+import com.product.catalog.exception.ResourceAlreadyExistsException;
+import com.product.catalog.exception.ResourceNotFoundException;
+import com.product.catalog.importer.ImportRecordReader;
+import com.product.catalog.importer.ImportRejection;
+import com.product.catalog.importer.ParsedChunk;
+import com.product.catalog.importer.ProductImportFormat;
+import com.product.catalog.importer.ProductImportParser;
+import com.product.catalog.repository.ProductImportJdbcRepository;
+import com.product.catalog.repository.ProductImportJobRepository;
+import com.product.catalog.search.TypeaheadIndex;
+import com.product.catalog.service.ProductImportService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk product import.
+ *
+ * The request stream is cut into fixed-size chunks of raw records. Chunks are parsed and validated
+ * on a worker pool while earlier chunks are being written, then committed strictly in file order:
+ * each chunk is COPYed into an unlogged staging table and merged into products with set-based SQL
+ * in one transaction, together with its rejections and the job progress. A job that fails or is
+ * interrupted can therefore be resumed from its last committed chunk.
+ */
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportServiceImpl.class);
+
+    private final ProductImportParser parser;
+    private final ProductImportJdbcRepository importJdbcRepository;
+    private final ProductImportJobRepository jobRepository;
+    private final ProductCache productCache;
+    private final TypeaheadIndex typeaheadIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService parseExecutor;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration staleAfter;
+
+    public ProductImportServiceImpl(ProductImportParser parser,
+                                    ProductImportJdbcRepository importJdbcRepository,
+                                    ProductImportJobRepository jobRepository,
+                                    ProductCache productCache,
+                                    TypeaheadIndex typeaheadIndex,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${catalog.import.chunk-size:5000}") int chunkSize,
+                                    @Value("${catalog.import.parallelism:0}") int parallelism,
+                                    @Value("${catalog.import.stale-after:10m}") Duration staleAfter) {
+        this.parser = parser;
+        this.importJdbcRepository = importJdbcRepository;
+        this.jobRepository = jobRepository;
+        this.productCache = productCache;
+        this.typeaheadIndex = typeaheadIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.staleAfter = staleAfter;
+        this.parseExecutor = Executors.newFixedThreadPool(this.parallelism,
+                Thread.ofPlatform().name("product-import-parser-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        parseExecutor.shutdownNow();
+    }
+
+    @Override
+    public ProductImportJob importProducts(ProductImportFormat format, String jobId, InputStream inputStream) {
+        ProductImportJob job = startJob(format, jobId);
+        log.info("Importing products - job: {}, format: {}, resuming after chunk: {}",
+                job.getId(), format, job.getCommittedChunks());
+
+        Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        try {
+            ImportRecordReader reader = format.open(inputStream);
+            Map<String, Integer> csvColumns = format == ProductImportFormat.CSV
+                    ? parser.parseCsvHeader(reader.next())
+                    : Map.of();
+
+            int jobChunkSize = job.getChunkSize();
+            long nextChunk = job.getCommittedChunks();
+            long alreadyCommitted = nextChunk * jobChunkSize;
+            for (long skipped = 0; skipped < alreadyCommitted && reader.next() != null; skipped++) {
+                // records up to the last committed chunk are already imported
+            }
+
+            boolean moreRecords = true;
+            while (moreRecords || !inFlight.isEmpty()) {
+                while (moreRecords && inFlight.size() < parallelism) {
+                    List<String> records = reader.nextChunk(jobChunkSize);
+                    moreRecords = records.size() == jobChunkSize;
+                    if (records.isEmpty()) {
+                        break;
+                    }
+                    long index = nextChunk++;
+                    long firstLine = index * jobChunkSize + 1;
+                    inFlight.add(parseExecutor.submit(() -> parser.parse(format, csvColumns, index, firstLine, records)));
+                }
+                if (!inFlight.isEmpty()) {
+                    commitChunk(job.getId(), await(inFlight.poll()));
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            inFlight.forEach(future -> future.cancel(true));
+            throw new ProductImportFailedException(markFailed(job, ex), ex);
+        }
+
+        ProductImportJob completed = transactionTemplate.execute(status -> {
+            ProductImportJob current = findJob(job.getId());
+            current.setStatus(ImportStatus.COMPLETED);
+            current.setUpdatedAt(Instant.now());
+            return current;
+        });
+        log.info("Import {} completed - processed: {}, imported: {}, rejected: {}",
+                completed.getId(), completed.getRowsProcessed(), completed.getRowsImported(), completed.getRowsRejected());
+        return completed;
+    }
+
+    @Override
+    public ProductImportJob getImportJob(String jobId) {
+        return findJob(jobId);
+    }
+
+    @Override
+    public List<ImportRejection> getRejections(String jobId, long afterLine, int size) {
+        if (!jobRepository.existsById(jobId)) {
+            throw new ResourceNotFoundException("Import job", "id", jobId);
+        }
+        return importJdbcRepository.findRejections(jobId, afterLine, size);
+    }
+
+    private ProductImportJob startJob(ProductImportFormat format, String jobId) {
+        if (jobId == null) {
+            return jobRepository.save(new ProductImportJob(UUID.randomUUID().toString(), format.name(), chunkSize));
+        }
+
+        return transactionTemplate.execute(status -> {
+            ProductImportJob job = findJob(jobId);
+            if (!job.getFormat().equals(format.name())) {
+                throw new BusinessValidationException(
+                        "Import job " + jobId + " was started as " + job.getFormat() + ", not " + format);
+            }
+            Instant now = Instant.now();
+            if (jobRepository.claim(jobId, ImportStatus.RUNNING, now, now.minus(staleAfter)) == 0) {
+                throw new ResourceAlreadyExistsException("Import job " + jobId + " is already running");
+            }
+            return findJob(jobId);
+        });
+    }
+
+    private void commitChunk(String jobId, ParsedChunk chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            importJdbcRepository.insertRejections(jobId, chunk.rejections());
+            long staged = importJdbcRepository.stage(jobId, chunk.rows());
+            int conflicts = staged > 0 ? importJdbcRepository.rejectConflicts(jobId) : 0;
+            List<ProductDomain> imported = staged > 0 ? importJdbcRepository.mergeStaged(jobId) : List.of();
+            importJdbcRepository.clearStaging(jobId);
+
+            if (!imported.isEmpty()) {
+                // Other replicas learn about the new codes through the cache invalidation bus
+                productCache.evictAfterCommit(imported.stream().map(ProductDomain::getCode).toList());
+                typeaheadIndex.indexAfterCommit(imported);
+            }
+
+            ProductImportJob job = findJob(jobId);
+            job.setCommittedChunks(chunk.index() + 1);
+            job.setRowsProcessed(job.getRowsProcessed() + chunk.recordCount());
+            job.setRowsImported(job.getRowsImported() + imported.size());
+            job.setRowsRejected(job.getRowsRejected() + chunk.rejections().size() + conflicts);
+            job.setUpdatedAt(Instant.now());
+
+            log.debug("Import {} chunk {} committed - imported: {}, rejected: {}",
+                    jobId, chunk.index(), imported.size(), chunk.rejections().size() + conflicts);
+        });
+    }
+
+    /**
+     * Record the failure; returns the job as stored, or the last known state if that fails too
+     */
+    private ProductImportJob markFailed(ProductImportJob started, Exception cause) {
+        log.error("Import {} failed", started.getId(), cause);
+        String message = String.valueOf(cause.getMessage());
+        String errorMessage = message.length() <= 1000 ? message : message.substring(0, 1000);
+        try {
+            return transactionTemplate.execute(status -> {
+                ProductImportJob job = findJob(started.getId());
+                job.setStatus(ImportStatus.FAILED);
+                job.setErrorMessage(errorMessage);
+                job.setUpdatedAt(Instant.now());
+                return job;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Could not record failure of import {}: {}", started.getId(), ex.getMessage());
+            started.setStatus(ImportStatus.FAILED);
+            started.setErrorMessage(errorMessage);
+            return started;
+        }
+    }
+
+    private ProductImportJob findJob(String jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job", "id", jobId));
+    }
+
+    private static ParsedChunk await(Future<ParsedChunk> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to parse import chunk", ex.getCause());
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.product.catalog.service.impl;
 
+import com.product.catalog.cache.ProductCache;
+import com.product.catalog.cache.ProductCountCache;
+import com.product.catalog.cache.ReferenceDataCache;
 import com.product.catalog.domain.ProductDomain;
+import com.product.catalog.domain.ProductFilter;
+import com.product.catalog.domain.ProductRevision;
 import com.product.catalog.dto.PatchProductRequest;
 import com.product.catalog.entity.Catalog;
 import com.product.catalog.entity.Category;
@@ -10,18 +15,43 @@ import com.product.catalog.exception.ResourceAlreadyExistsException;
 import com.product.catalog.exception.ResourceNotFoundException;
 import com.product.catalog.mapper.ProductMapper;
 import com.product.catalog.mapper.PriceMapper;
+import com.product.catalog.pagination.ApproximateSlice;
+import com.product.catalog.pagination.CursorCodec;
+import com.product.catalog.pagination.CursorPage;
+import com.product.catalog.pagination.ProductCursor;
+import com.product.catalog.pagination.ProductSortField;
+import com.product.catalog.pagination.TotalCountMode;
 import com.product.catalog.repository.CatalogRepository;
 import com.product.catalog.repository.CategoryRepository;
+import com.product.catalog.repository.ProductJdbcRepository;
 import com.product.catalog.repository.ProductRepository;
+import com.product.catalog.repository.ProductSpecifications;
+import com.product.catalog.search.ProductFacets;
+import com.product.catalog.search.ProductSearchHit;
+import com.product.catalog.search.SearchQuery;
+import com.product.catalog.search.TrigramIndex;
+import com.product.catalog.search.TypeaheadIndex;
 import com.product.catalog.service.ProductService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -34,22 +64,42 @@ public class ProductServiceImpl implements ProductService {
 
     private static final Logger log = LoggerFactory.getLogger(ProductServiceImpl.class);
 
+    /**
+     * Codes per IN query; keeps the list well below driver bind-parameter limits.
+     */
+    private static final int CODE_CHUNK_SIZE = 1000;
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final CatalogRepository catalogRepository;
     private final ProductMapper productMapper;
     private final PriceMapper priceMapper;
+    private final ProductCache productCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final ProductCountCache productCountCache;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final TypeaheadIndex typeaheadIndex;
 
     public ProductServiceImpl(ProductRepository productRepository,
                               CategoryRepository categoryRepository,
                               CatalogRepository catalogRepository,
                               ProductMapper productMapper,
-                              PriceMapper priceMapper) {
+                              PriceMapper priceMapper,
+                              ProductCache productCache,
+                              ReferenceDataCache referenceDataCache,
+                              ProductCountCache productCountCache,
+                              ProductJdbcRepository productJdbcRepository,
+                              TypeaheadIndex typeaheadIndex) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
         this.catalogRepository = catalogRepository;
         this.productMapper = productMapper;
         this.priceMapper = priceMapper;
+        this.productCache = productCache;
+        this.referenceDataCache = referenceDataCache;
+        this.productCountCache = productCountCache;
+        this.productJdbcRepository = productJdbcRepository;
+        this.typeaheadIndex = typeaheadIndex;
     }
 
     @Override
@@ -74,52 +124,110 @@ public class ProductServiceImpl implements ProductService {
 
         // Save and return
         Product savedProduct = productRepository.save(product);
+        productCache.evictAfterCommit(List.of(savedProduct.getCode()));
         log.info("Product created successfully with code: {}", savedProduct.getCode());
 
-        return productMapper.entityToDomain(savedProduct);
+        ProductDomain created = productMapper.entityToDomain(savedProduct);
+        typeaheadIndex.indexAfterCommit(List.of(created));
+        return created;
     }
 
     @Override
     public List<ProductDomain> createProducts(List<ProductDomain> products) {
         log.info("Creating {} products", products.size());
 
-        // Validate all products
+        // Validate all products, including duplicates within the request
+        Set<String> codes = new LinkedHashSet<>();
         products.forEach(product -> {
             if (!product.isValid()) {
                 throw new BusinessValidationException(
                         "Invalid product data for code: " + product.getCode()
                 );
             }
-            if (productRepository.existsByCode(product.getCode())) {
-                throw new ResourceAlreadyExistsException("Product", "code", product.getCode());
+            if (!codes.add(product.getCode())) {
+                throw new BusinessValidationException("Duplicate product code in request: " + product.getCode());
             }
         });
 
-        // Convert to entities and set relationships
+        // One existence query per chunk instead of one per product
+        for (List<String> chunk : chunks(List.copyOf(codes))) {
+            List<String> existing = productRepository.findExistingCodes(chunk);
+            if (!existing.isEmpty()) {
+                throw new ResourceAlreadyExistsException("Product", "code", existing.get(0));
+            }
+        }
+
+        // Convert to entities and set relationships, resolving each distinct reference once
+        Map<String, Category> categories = new HashMap<>();
+        Map<String, Catalog> catalogs = new HashMap<>();
         List<Product> productEntities = products.stream()
                 .map(domain -> {
                     Product entity = productMapper.domainToEntity(domain);
-                    setProductRelationships(entity, domain);
+                    if (domain.getCategoryCode() != null) {
+                        entity.setCategory(categories.computeIfAbsent(domain.getCategoryCode(), this::resolveCategory));
+                    }
+                    if (domain.getCatalogCode() != null) {
+                        entity.setCatalog(catalogs.computeIfAbsent(domain.getCatalogCode(), this::resolveCatalog));
+                    }
                     return entity;
                 })
                 .collect(Collectors.toList());
 
-        // Save all
+        // Save all; new entities are persisted without a SELECT and flushed as JDBC batches
         List<Product> savedProducts = productRepository.saveAll(productEntities);
+        productCache.evictAfterCommit(savedProducts.stream().map(Product::getCode).toList());
         log.info("Successfully created {} products", savedProducts.size());
 
-        return productMapper.entitiesToDomains(savedProducts);
+        List<ProductDomain> created = productMapper.entitiesToDomains(savedProducts);
+        typeaheadIndex.indexAfterCommit(created);
+        return created;
     }
 
+    /**
+     * Read-through lookup backed by ProductCache.
+     * Runs without its own transaction so cache hits never check out a connection.
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProductDomain getProductByCode(String code) {
         log.info("Fetching product with code: {}", code);
 
-        Product product = productRepository.findByCode(code)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "code", code));
+        ProductDomain product = productCache.get(code, key -> productRepository.findByCode(key)
+                .map(productMapper::entityToDomain)
+                .orElse(null));
+
+        if (product == null) {
+            throw new ResourceNotFoundException("Product", "code", code);
+        }
+        return product;
+    }
+
+    /**
+     * Cheap revision lookup for conditional requests: answered from the cache when possible,
+     * otherwise with a two-column query that does not load the entity.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<ProductRevision> getProductRevision(String code) {
+        ProductDomain cached = productCache.getIfPresent(code);
+        if (cached != null && cached.getVersion() != null) {
+            return Optional.of(cached.getRevision());
+        }
+        return productRepository.findRevisionByCode(code);
+    }
+
+    /**
+     * Multi-get backed by ProductCache: hits are served from memory and all misses are loaded
+     * with a single IN query.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, ProductDomain> getProductsByCodes(List<String> codes) {
+        log.info("Fetching {} products by code", codes.size());
 
-        return productMapper.entityToDomain(product);
+        return productCache.getAll(new LinkedHashSet<>(codes), missing ->
+                productRepository.findAllByCodeIn(List.copyOf(missing)).stream()
+                        .collect(Collectors.toMap(Product::getCode, productMapper::entityToDomain)));
     }
 
     @Override
@@ -132,31 +240,170 @@ public class ProductServiceImpl implements ProductService {
         return productPage.map(productMapper::entityToDomain);
     }
 
+    /**
+     * One Specification-based query for any combination of filters, with exact COUNT(*)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProductDomain> getProductsWithFilters(ProductFilter filter, Pageable pageable) {
+        log.info("Fetching products with filters - {}, page: {}, size: {}",
+                filter, pageable.getPageNumber(), pageable.getPageSize());
+
+        return productRepository.findAll(ProductSpecifications.matching(filter), pageable)
+                .map(productMapper::entityToDomain);
+    }
+
+    /**
+     * Listing with a selectable total: EXACT runs COUNT(*) as before, NONE returns a Slice without
+     * any count, APPROXIMATE pairs the slice with a cached or planner-estimated total. In every mode
+     * the last page is decided by the rows fetched, not by the total.
+     */
     @Override
     @Transactional(readOnly = true)
-    public Page<ProductDomain> getProductsWithFilters(
+    public Slice<ProductDomain> getProductsWithFilters(
+            ProductFilter filter,
+            Pageable pageable,
+            TotalCountMode totalCountMode
+    ) {
+        if (totalCountMode == TotalCountMode.EXACT) {
+            return getProductsWithFilters(filter, pageable);
+        }
+
+        log.info("Fetching products with filters - {}, page: {}, size: {}, total: {}",
+                filter, pageable.getPageNumber(), pageable.getPageSize(), totalCountMode);
+
+        Slice<ProductDomain> slice = productRepository
+                .findSlice(ProductSpecifications.matching(filter), pageable)
+                .map(productMapper::entityToDomain);
+
+        if (totalCountMode == TotalCountMode.NONE) {
+            return slice;
+        }
+
+        long approximateTotal = productCountCache.approximateCount(filter);
+        // Never report fewer rows than this page proves to exist
+        long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new ApproximateSlice<>(slice, Math.max(approximateTotal, seen));
+    }
+
+    /**
+     * Facets are cached per filter and refreshed in the background, like approximate totals.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ProductFacets getProductFacets(ProductFilter filter) {
+        log.info("Fetching product facets - filter: {}", filter);
+        return productCountCache.facets(filter);
+    }
+
+    /**
+     * Keyset pagination: seeks past the cursor on the (sort key, code) index instead of skipping
+     * rows with OFFSET, and fetches one extra row instead of running COUNT(*). A seek covers only
+     * the cursor's null or non-null segment; a page that runs off its end continues with a second
+     * range scan over the following segment.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ProductDomain> getProductsByCursor(
+            ProductFilter filter,
+            ProductSortField sortField,
+            Sort.Direction direction,
+            String cursor,
+            int size
+    ) {
+        log.info("Fetching products by cursor - {}, sort: {} {}, size: {}",
+                filter, sortField, direction, size);
+
+        Specification<Product> specification = ProductSpecifications.matching(filter);
+        Sort sort = sortField.toSort(direction);
+        ProductCursor position = null;
+        Specification<Product> seek = specification;
+        if (cursor != null && !cursor.isBlank()) {
+            position = ProductCursor.decode(cursor, sortField, direction);
+            seek = specification.and(ProductSpecifications.seekAfter(position));
+        }
+
+        Slice<Product> slice = productRepository.findSlice(seek, PageRequest.of(0, size, sort));
+        List<Product> rows = slice.getContent();
+        boolean hasNext = slice.hasNext();
+
+        Specification<Product> followingSegment = position != null && !hasNext
+                ? ProductSpecifications.followingSegment(position)
+                : null;
+        if (followingSegment != null) {
+            int remaining = size - rows.size();
+            Slice<Product> following = productRepository.findSlice(
+                    specification.and(followingSegment), PageRequest.of(0, Math.max(remaining, 1), sort));
+            if (remaining > 0) {
+                rows = new ArrayList<>(rows);
+                rows.addAll(following.getContent());
+                hasNext = following.hasNext();
+            } else {
+                // The page is full; the following segment only decides whether there is a next page
+                hasNext = following.hasContent();
+            }
+        }
+
+        String nextCursor = hasNext && !rows.isEmpty()
+                ? ProductCursor.after(rows.get(rows.size() - 1), sortField, direction).encode()
+                : null;
+
+        return new CursorPage<>(productMapper.entitiesToDomains(rows), nextCursor);
+    }
+
+    /**
+     * Autocomplete from the in-memory typeahead index; never touches the database.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TrigramIndex.Suggestion> suggestProducts(String query, int limit) {
+        return typeaheadIndex.suggest(query, limit);
+    }
+
+    /**
+     * Ranked full-text search with keyset paging on (rank, code).
+     * The cursor carries the tsquery it was issued for and is rejected for a different query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ProductDomain> searchProducts(
+            String query,
             String categoryCode,
             Boolean inStock,
-            Pageable pageable
+            String cursor,
+            int size
     ) {
-        log.info("Fetching products with filters - category: {}, inStock: {}, page: {}, size: {}",
-                categoryCode, inStock, pageable.getPageNumber(), pageable.getPageSize());
+        log.info("Searching products - query: {}, category: {}, inStock: {}, size: {}", query, categoryCode, inStock, size);
+
+        String tsQuery = SearchQuery.toPrefixTsQuery(query);
+        Float afterRank = null;
+        String afterCode = null;
+        if (cursor != null && !cursor.isBlank()) {
+            List<String> parts = CursorCodec.decode(cursor, 3);
+            if (!tsQuery.equals(parts.get(0))) {
+                throw new BusinessValidationException("Cursor does not match the search query");
+            }
+            try {
+                afterRank = Float.parseFloat(parts.get(1));
+            } catch (RuntimeException ex) {
+                throw new BusinessValidationException("Invalid cursor");
+            }
+            afterCode = parts.get(2);
+        }
 
-        Page<Product> productPage;
+        List<ProductSearchHit> hits = productJdbcRepository.search(
+                tsQuery, categoryCode, inStock, afterRank, afterCode, size + 1
+        );
+        boolean hasNext = hits.size() > size;
+        List<ProductSearchHit> page = hasNext ? hits.subList(0, size) : hits;
 
-        if (categoryCode != null && inStock != null) {
-            productPage = productRepository.findByCategoryCodeAndIsInStock(
-                    categoryCode, inStock, pageable
-            );
-        } else if (categoryCode != null) {
-            productPage = productRepository.findByCategoryCode(categoryCode, pageable);
-        } else if (inStock != null) {
-            productPage = productRepository.findByIsInStock(inStock, pageable);
-        } else {
-            productPage = productRepository.findAll(pageable);
+        String nextCursor = null;
+        if (hasNext && !page.isEmpty()) {
+            ProductSearchHit last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(List.of(tsQuery, Float.toString(last.rank()), last.product().getCode()));
         }
 
-        return productPage.map(productMapper::entityToDomain);
+        return new CursorPage<>(page.stream().map(ProductSearchHit::product).toList(), nextCursor);
     }
 
     @Override
@@ -182,11 +429,14 @@ public class ProductServiceImpl implements ProductService {
         // Update relationships
         setProductRelationships(existingProduct, productDomain);
 
-        // Save and return
-        Product updatedProduct = productRepository.save(existingProduct);
+        // Save and flush so the returned version reflects this update
+        Product updatedProduct = productRepository.saveAndFlush(existingProduct);
+        productCache.evictAfterCommit(List.of(code));
         log.info("Product updated successfully with code: {}", updatedProduct.getCode());
 
-        return productMapper.entityToDomain(updatedProduct);
+        ProductDomain updated = productMapper.entityToDomain(updatedProduct);
+        typeaheadIndex.indexAfterCommit(List.of(updated));
+        return updated;
     }
 
     @Override
@@ -218,21 +468,20 @@ public class ProductServiceImpl implements ProductService {
 
         // Update relationships if provided
         if (patchRequest.getCategoryCode() != null) {
-            Category category = categoryRepository.findByCode(patchRequest.getCategoryCode())
-                    .orElse(null);
-            existingProduct.setCategory(category);
+            existingProduct.setCategory(resolveCategory(patchRequest.getCategoryCode()));
         }
         if (patchRequest.getCatalogCode() != null) {
-            Catalog catalog = catalogRepository.findByCode(patchRequest.getCatalogCode())
-                    .orElse(null);
-            existingProduct.setCatalog(catalog);
+            existingProduct.setCatalog(resolveCatalog(patchRequest.getCatalogCode()));
         }
 
-        // Save and return
-        Product updatedProduct = productRepository.save(existingProduct);
+        // Save and flush so the returned version reflects this update
+        Product updatedProduct = productRepository.saveAndFlush(existingProduct);
+        productCache.evictAfterCommit(List.of(code));
         log.info("Product patched successfully with code: {}", updatedProduct.getCode());
 
-        return productMapper.entityToDomain(updatedProduct);
+        ProductDomain patched = productMapper.entityToDomain(updatedProduct);
+        typeaheadIndex.indexAfterCommit(List.of(patched));
+        return patched;
     }
 
     @Override
@@ -244,6 +493,8 @@ public class ProductServiceImpl implements ProductService {
         }
 
         productRepository.deleteByCode(code);
+        productCache.evictAfterCommit(List.of(code));
+        typeaheadIndex.removeAfterCommit(List.of(code));
         log.info("Product deleted successfully with code: {}", code);
     }
 
@@ -251,16 +502,28 @@ public class ProductServiceImpl implements ProductService {
     public void deleteProducts(List<String> codes) {
         log.info("Deleting {} products", codes.size());
 
-        // Validate all products exist
-        for (String code : codes) {
-            if (!productRepository.existsByCode(code)) {
-                throw new ResourceNotFoundException("Product", "code", code);
-            }
+        List<List<String>> chunks = chunks(codes.stream().distinct().toList());
+
+        // Validate all products exist, one query per chunk
+        for (List<String> chunk : chunks) {
+            Set<String> existing = new HashSet<>(productRepository.findExistingCodes(chunk));
+            chunk.stream()
+                    .filter(code -> !existing.contains(code))
+                    .findFirst()
+                    .ifPresent(missing -> {
+                        throw new ResourceNotFoundException("Product", "code", missing);
+                    });
         }
 
-        // Delete all
-        codes.forEach(productRepository::deleteByCode);
-        log.info("Successfully deleted {} products", codes.size());
+        // Delete reviews, then products, with one statement each per chunk
+        int deleted = 0;
+        for (List<String> chunk : chunks) {
+            productRepository.deleteReviewsByProductCodeIn(chunk);
+            deleted += productRepository.deleteByCodeIn(chunk);
+        }
+        productCache.evictAfterCommit(codes);
+        typeaheadIndex.removeAfterCommit(codes);
+        log.info("Successfully deleted {} products", deleted);
     }
 
     @Override
@@ -269,22 +532,49 @@ public class ProductServiceImpl implements ProductService {
         return productRepository.existsByCode(code);
     }
 
+    /**
+     * Split codes into IN-list sized chunks
+     */
+    private static List<List<String>> chunks(List<String> codes) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < codes.size(); from += CODE_CHUNK_SIZE) {
+            chunks.add(codes.subList(from, Math.min(from + CODE_CHUNK_SIZE, codes.size())));
+        }
+        return chunks;
+    }
+
     /**
      * Helper method to set product relationships (category and catalog)
      */
     private void setProductRelationships(Product product, ProductDomain productDomain) {
         // Set category if provided
         if (productDomain.getCategoryCode() != null) {
-            Category category = categoryRepository.findByCode(productDomain.getCategoryCode())
-                    .orElse(null);
-            product.setCategory(category);
+            product.setCategory(resolveCategory(productDomain.getCategoryCode()));
         }
 
         // Set catalog if provided
         if (productDomain.getCatalogCode() != null) {
-            Catalog catalog = catalogRepository.findByCode(productDomain.getCatalogCode())
-                    .orElse(null);
-            product.setCatalog(catalog);
+            product.setCatalog(resolveCatalog(productDomain.getCatalogCode()));
         }
     }
+
+    /**
+     * Resolve a category code against the reference-data snapshot and attach it by id, without a SELECT.
+     * Unknown codes resolve to null, as before.
+     */
+    private Category resolveCategory(String categoryCode) {
+        return referenceDataCache.findCategory(categoryCode) != null
+                ? categoryRepository.getReferenceById(categoryCode)
+                : null;
+    }
+
+    /**
+     * Resolve a catalog code against the reference-data snapshot and attach it by id, without a SELECT.
+     * Unknown codes resolve to null, as before.
+     */
+    private Catalog resolveCatalog(String catalogCode) {
+        return referenceDataCache.findCatalog(catalogCode) != null
+                ? catalogRepository.getReferenceById(catalogCode)
+                : null;
+    }
 }
@@ -0,0 +1,86 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.cache.ProductCache;
+import com.product.catalog.repository.ProductRatingJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Periodically recomputes the stored review aggregates from the reviews table and repairs drift,
+ * e.g. from reviews written outside the API. Products are walked in code order, one short
+ * transaction per chunk, so review writes are only blocked for the chunk being checked.
+ */
+@Component
+public class RatingReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingReconciliationJob.class);
+
+    private final ProductRatingJdbcRepository productRatingJdbcRepository;
+    private final ProductCache productCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public RatingReconciliationJob(ProductRatingJdbcRepository productRatingJdbcRepository,
+                                   ProductCache productCache,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${catalog.reviews.reconciliation.chunk-size:1000}") int chunkSize) {
+        this.productRatingJdbcRepository = productRatingJdbcRepository;
+        this.productCache = productCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.reviews.reconciliation.interval:1h}",
+            initialDelayString = "${catalog.reviews.reconciliation.interval:1h}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Rating reconciliation failed", e);
+        }
+    }
+
+    /**
+     * @return number of products whose aggregates were corrected
+     */
+    public int reconcile() {
+        String afterCode = "";
+        int corrected = 0;
+        while (true) {
+            String fromCode = afterCode;
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<String> locked = productRatingJdbcRepository.lockProductCodes(fromCode, chunkSize);
+                if (locked.isEmpty()) {
+                    return null;
+                }
+                String lastCode = locked.getLast();
+                List<String> fixed = productRatingJdbcRepository.reconcile(fromCode, lastCode);
+                if (!fixed.isEmpty()) {
+                    log.warn("Corrected drifted rating aggregates for {} products: {}", fixed.size(), fixed);
+                    productCache.evictAfterCommit(fixed);
+                }
+                return new Chunk(lastCode, locked.size(), fixed.size());
+            });
+            if (chunk == null) {
+                break;
+            }
+            corrected += chunk.corrected();
+            afterCode = chunk.lastCode();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        log.info("Rating reconciliation finished, {} products corrected", corrected);
+        return corrected;
+    }
+
+    private record Chunk(String lastCode, int size, int corrected) {
+    }
+}
@@ -0,0 +1,254 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.cache.ProductCache;
+import com.product.catalog.domain.RatingDelta;
+import com.product.catalog.domain.ReviewDomain;
+import com.product.catalog.exception.ServiceUnavailableException;
+import com.product.catalog.repository.ProductRatingJdbcRepository;
+import com.product.catalog.repository.ReviewJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded buffer between review submissions and the database.
+ *
+ * A single writer thread drains the queue in batches. Each batch is one transaction: a multi-row
+ * INSERT of the reviews plus one aggregate UPDATE per product, issued in code order so concurrent
+ * writers lock product rows in the same order. A hot product is therefore locked once per batch
+ * instead of once per review. When the queue is full, submissions are refused with 503 rather
+ * than blocking request threads.
+ *
+ * A batch leaves memory only once its transaction has committed. Connection and other transient
+ * failures are retried with exponential back-off while the queue keeps applying back-pressure;
+ * a single review is dropped only when the database rejects that row's data.
+ */
+@Component
+public class ReviewIngestionQueue implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewIngestionQueue.class);
+
+    /** Suggested client back-off when the queue is full */
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    /** Upper bound for the back-off between retries of a failing write */
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+    private final ReviewJdbcRepository reviewJdbcRepository;
+    private final ProductRatingJdbcRepository productRatingJdbcRepository;
+    private final ProductCache productCache;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<ReviewDomain> queue;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration shutdownTimeout;
+    private final Duration retryBackoff;
+
+    private volatile boolean running;
+    /** System.nanoTime() after which retries give up; only meaningful once stopped */
+    private volatile long shutdownDeadline;
+    private Thread writerThread;
+
+    public ReviewIngestionQueue(ReviewJdbcRepository reviewJdbcRepository,
+                                ProductRatingJdbcRepository productRatingJdbcRepository,
+                                ProductCache productCache,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${catalog.reviews.ingestion.capacity:10000}") int capacity,
+                                @Value("${catalog.reviews.ingestion.batch-size:500}") int batchSize,
+                                @Value("${catalog.reviews.ingestion.linger:100ms}") Duration linger,
+                                @Value("${catalog.reviews.ingestion.shutdown-timeout:30s}") Duration shutdownTimeout,
+                                @Value("${catalog.reviews.ingestion.retry-backoff:100ms}") Duration retryBackoff) {
+        this.reviewJdbcRepository = reviewJdbcRepository;
+        this.productRatingJdbcRepository = productRatingJdbcRepository;
+        this.productCache = productCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.shutdownTimeout = shutdownTimeout;
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * Queue a review for writing. Id, product code and created date must already be set.
+     *
+     * @throws ServiceUnavailableException if the queue is full or shutting down
+     */
+    public void submit(ReviewDomain review) {
+        if (!running || !queue.offer(review)) {
+            throw new ServiceUnavailableException("Review ingestion is at capacity, retry later", RETRY_AFTER);
+        }
+    }
+
+    /**
+     * Reviews accepted but not yet written
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drain, "review-ingestion-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stop accepting reviews and write out what is already queued before the datasource closes.
+     */
+    @Override
+    public void stop() {
+        shutdownDeadline = System.nanoTime() + shutdownTimeout.toNanos();
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(shutdownTimeout.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (writerThread.isAlive()) {
+                // The writer still owns its batch; do not write the queue concurrently with it
+                log.error("Review ingestion writer did not finish within {}; {} queued reviews were not written",
+                        shutdownTimeout, queue.size());
+                return;
+            }
+        }
+        // Submissions racing with shutdown may still have slipped in after the writer exited
+        List<ReviewDomain> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        try {
+            if (!remaining.isEmpty() && !flush(remaining)) {
+                log.error("Shutdown gave up writing {} queued reviews", remaining.size());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.error("Shutdown interrupted with {} queued reviews not written", remaining.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        List<ReviewDomain> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ReviewDomain first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // Let a burst accumulate so it is written as one batch
+                if (running && queue.size() < batchSize - 1) {
+                    Thread.sleep(linger.toMillis());
+                }
+                queue.drainTo(batch, batchSize - 1);
+                if (!flush(batch)) {
+                    log.error("Shutdown gave up writing a batch of {} reviews; {} more remain queued",
+                            batch.size(), queue.size());
+                    break;
+                }
+                // Only forget the batch once it is committed (or its bad rows were rejected)
+                batch.clear();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                log.error("Review ingestion writer interrupted with {} reviews in flight", batch.size());
+                break;
+            }
+        }
+    }
+
+    /**
+     * Write one batch, retrying transient failures with back-off. If the database rejects the
+     * batch's data (e.g. a product was deleted meanwhile), fall back to writing each review on its
+     * own so one bad row does not drop the rest.
+     *
+     * @return false only if the queue is stopped and the shutdown deadline passed first
+     */
+    private boolean flush(List<ReviewDomain> batch) throws InterruptedException {
+        WriteOutcome outcome = writeWithRetry(batch);
+        if (outcome == WriteOutcome.WRITTEN) {
+            log.debug("Wrote {} reviews", batch.size());
+            return true;
+        }
+        if (outcome == WriteOutcome.GAVE_UP) {
+            return false;
+        }
+
+        log.warn("Review batch of {} was rejected, writing reviews one by one", batch.size());
+        for (ReviewDomain review : batch) {
+            if (writeWithRetry(List.of(review)) == WriteOutcome.GAVE_UP) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private WriteOutcome writeWithRetry(List<ReviewDomain> reviews) throws InterruptedException {
+        long backoffMillis = retryBackoff.toMillis();
+        while (true) {
+            try {
+                write(reviews);
+                return WriteOutcome.WRITTEN;
+            } catch (DataIntegrityViolationException ex) {
+                // The data itself is invalid; retrying cannot help
+                if (reviews.size() == 1) {
+                    ReviewDomain review = reviews.getFirst();
+                    log.warn("Dropped review {} of product {}: {}",
+                            review.getId(), review.getProductCode(), ex.getMessage());
+                }
+                return WriteOutcome.REJECTED;
+            } catch (RuntimeException ex) {
+                if (!running && System.nanoTime() - shutdownDeadline >= 0) {
+                    log.error("Writing {} reviews failed during shutdown: {}", reviews.size(), ex.getMessage());
+                    return WriteOutcome.GAVE_UP;
+                }
+                log.warn("Writing {} reviews failed, retrying in {} ms: {}",
+                        reviews.size(), backoffMillis, ex.getMessage());
+                // Once stopped, never sleep past the shutdown deadline
+                Thread.sleep(running ? backoffMillis
+                        : Math.max(0, Math.min(backoffMillis, TimeUnit.NANOSECONDS.toMillis(shutdownDeadline - System.nanoTime()))));
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF.toMillis());
+            }
+        }
+    }
+
+    private void write(List<ReviewDomain> reviews) {
+        Map<String, RatingDelta> deltas = new TreeMap<>();
+        for (ReviewDomain review : reviews) {
+            deltas.computeIfAbsent(review.getProductCode(), code -> new RatingDelta()).add(review.getRating());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            reviewJdbcRepository.insertAll(reviews);
+            productRatingJdbcRepository.applyDeltas(deltas);
+            productCache.evictAfterCommit(deltas.keySet());
+        });
+    }
+
+    private enum WriteOutcome {
+        WRITTEN,
+        /** Rejected by a constraint; retrying the same rows cannot succeed */
+        REJECTED,
+        /** Still failing when the shutdown deadline passed */
+        GAVE_UP
+    }
+}
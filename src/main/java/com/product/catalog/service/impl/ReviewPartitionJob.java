@@ -0,0 +1,43 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.repository.ReviewJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Keeps monthly partitions of the reviews table prepared ahead of time, so new reviews never
+ * land in the default partition.
+ */
+@Component
+public class ReviewPartitionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewPartitionJob.class);
+
+    private final ReviewJdbcRepository reviewJdbcRepository;
+    private final int monthsAhead;
+
+    public ReviewPartitionJob(ReviewJdbcRepository reviewJdbcRepository,
+                              @Value("${catalog.reviews.partitions.months-ahead:3}") int monthsAhead) {
+        this.reviewJdbcRepository = reviewJdbcRepository;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(cron = "${catalog.reviews.partitions.cron:0 15 2 * * *}")
+    public void ensurePartitions() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        try {
+            int created = reviewJdbcRepository.ensurePartitions(today, today.plusMonths(monthsAhead));
+            if (created > 0) {
+                log.info("Created {} review partitions", created);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to create review partitions", e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.cache.ProductCache;
+import com.product.catalog.domain.RatingDelta;
+import com.product.catalog.domain.ReviewDomain;
+import com.product.catalog.entity.Review;
+import com.product.catalog.exception.BusinessValidationException;
+import com.product.catalog.exception.ResourceNotFoundException;
+import com.product.catalog.mapper.ReviewMapper;
+import com.product.catalog.pagination.CursorPage;
+import com.product.catalog.pagination.ReviewCursor;
+import com.product.catalog.repository.ProductRatingJdbcRepository;
+import com.product.catalog.repository.ProductRepository;
+import com.product.catalog.repository.ReviewRepository;
+import com.product.catalog.repository.ReviewSpecifications;
+import com.product.catalog.service.ReviewService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of ReviewService.
+ * Every review write also adjusts the product's stored aggregates, so listing and sorting by
+ * rating never has to aggregate the reviews table. New reviews go through ReviewIngestionQueue.
+ */
+@Service
+@Transactional
+public class ReviewServiceImpl implements ReviewService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewServiceImpl.class);
+
+    private final ReviewRepository reviewRepository;
+    private final ProductRepository productRepository;
+    private final ProductRatingJdbcRepository productRatingJdbcRepository;
+    private final ReviewMapper reviewMapper;
+    private final ProductCache productCache;
+    private final ReviewIngestionQueue reviewIngestionQueue;
+
+    public ReviewServiceImpl(ReviewRepository reviewRepository,
+                             ProductRepository productRepository,
+                             ProductRatingJdbcRepository productRatingJdbcRepository,
+                             ReviewMapper reviewMapper,
+                             ProductCache productCache,
+                             ReviewIngestionQueue reviewIngestionQueue) {
+        this.reviewRepository = reviewRepository;
+        this.productRepository = productRepository;
+        this.productRatingJdbcRepository = productRatingJdbcRepository;
+        this.reviewMapper = reviewMapper;
+        this.productCache = productCache;
+        this.reviewIngestionQueue = reviewIngestionQueue;
+    }
+
+    /**
+     * Keyset page on (created_date, id): the page is one index range scan from the cursor,
+     * however deep into the product's reviews it is.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewDomain> getReviews(String productCode, Integer rating, String cursor, int size) {
+        log.info("Fetching reviews of product: {}, rating: {}, size: {}", productCode, rating, size);
+
+        if (rating != null && (rating < 1 || rating > 5)) {
+            throw new BusinessValidationException("Rating must be between 1 and 5");
+        }
+        if (!productRepository.existsByCode(productCode)) {
+            throw new ResourceNotFoundException("Product", "code", productCode);
+        }
+
+        Specification<Review> specification = ReviewSpecifications.forProduct(productCode)
+                .and(ReviewSpecifications.hasRating(rating));
+        if (cursor != null && !cursor.isBlank()) {
+            specification = specification.and(ReviewSpecifications.seekAfter(ReviewCursor.decode(cursor, rating)));
+        }
+
+        List<Review> rows = reviewRepository.findBy(specification, query -> query
+                .sortBy(ReviewSpecifications.NEWEST_FIRST)
+                .limit(size + 1)
+                .all());
+        boolean hasNext = rows.size() > size;
+        List<Review> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext && !page.isEmpty()
+                ? ReviewCursor.after(page.get(page.size() - 1), rating).encode()
+                : null;
+
+        return new CursorPage<>(page.stream().map(reviewMapper::entityToDomain).toList(), nextCursor);
+    }
+
+    /**
+     * Validates and queues the review; it is written by {@link ReviewIngestionQueue} shortly after.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ReviewDomain addReview(String productCode, ReviewDomain reviewDomain) {
+        log.info("Adding review to product: {}", productCode);
+
+        if (productCache.getIfPresent(productCode) == null && !productRepository.existsByCode(productCode)) {
+            throw new ResourceNotFoundException("Product", "code", productCode);
+        }
+
+        reviewDomain.setId(UUID.randomUUID().toString());
+        reviewDomain.setProductCode(productCode);
+        reviewDomain.setCreatedDate(Instant.now().truncatedTo(ChronoUnit.MICROS));
+        reviewIngestionQueue.submit(reviewDomain);
+        return reviewDomain;
+    }
+
+    @Override
+    public void deleteReview(String productCode, String reviewId) {
+        log.info("Deleting review {} of product: {}", reviewId, productCode);
+
+        Review review = reviewRepository.findById(reviewId)
+                .filter(existing -> existing.getProduct() != null
+                        && productCode.equals(existing.getProduct().getCode()))
+                .orElseThrow(() -> new ResourceNotFoundException("Review", "id", reviewId));
+
+        reviewRepository.delete(review);
+        productRatingJdbcRepository.applyDelta(productCode, new RatingDelta().remove(review.getRating()));
+
+        productCache.evictAfterCommit(List.of(productCode));
+    }
+}
@@ -0,0 +1,41 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.security.RevokedTokenIndex;
+import com.product.catalog.service.TokenRevocationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Purges revocations of expired tokens and rebuilds the revocation filter without them, so the
+ * filter stays small and its false positive rate stays near the configured target.
+ */
+@Component
+public class RevokedTokenCleanupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenCleanupJob.class);
+
+    private final TokenRevocationService tokenRevocationService;
+    private final RevokedTokenIndex revokedTokenIndex;
+
+    public RevokedTokenCleanupJob(TokenRevocationService tokenRevocationService,
+                                  RevokedTokenIndex revokedTokenIndex) {
+        this.tokenRevocationService = tokenRevocationService;
+        this.revokedTokenIndex = revokedTokenIndex;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.security.revocation.rebuild-interval:1h}",
+            initialDelayString = "${catalog.security.revocation.rebuild-interval:1h}")
+    public void purgeAndRebuild() {
+        try {
+            int purged = tokenRevocationService.purgeExpired();
+            if (purged > 0) {
+                log.info("Purged {} expired token revocations", purged);
+            }
+            revokedTokenIndex.rebuild();
+        } catch (RuntimeException e) {
+            log.error("Revoked token cleanup failed", e);
+        }
+    }
+}
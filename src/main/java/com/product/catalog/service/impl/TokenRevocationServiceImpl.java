@@ -0,0 +1,59 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.entity.RevokedToken;
+import com.product.catalog.exception.BusinessValidationException;
+import com.product.catalog.repository.RevokedTokenRepository;
+import com.product.catalog.security.JwtTokenUtil;
+import com.product.catalog.security.RevokedTokenIndex;
+import com.product.catalog.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Implementation of TokenRevocationService
+ * Revocations are stored by jti and pushed into every replica's {@link RevokedTokenIndex}.
+ */
+@Service
+@Transactional
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationServiceImpl.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenIndex revokedTokenIndex;
+    private final JwtTokenUtil jwtTokenUtil;
+
+    public TokenRevocationServiceImpl(RevokedTokenRepository revokedTokenRepository,
+                                      RevokedTokenIndex revokedTokenIndex,
+                                      JwtTokenUtil jwtTokenUtil) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revokedTokenIndex = revokedTokenIndex;
+        this.jwtTokenUtil = jwtTokenUtil;
+    }
+
+    @Override
+    public void revoke(String token) {
+        Claims claims = jwtTokenUtil.verify(token);
+        String jti = claims.getId();
+        if (jti == null) {
+            throw new BusinessValidationException("Token has no id and cannot be revoked; it stays valid until it expires");
+        }
+        if (revokedTokenRepository.existsById(jti)) {
+            return;
+        }
+
+        revokedTokenRepository.save(new RevokedToken(jti, claims.getSubject(), claims.getExpiration().toInstant()));
+        revokedTokenIndex.addAfterCommit(jti);
+        log.info("Revoked token {} of user {}", jti, claims.getSubject());
+    }
+
+    @Override
+    public int purgeExpired() {
+        return revokedTokenRepository.deleteExpired(Instant.now());
+    }
+}
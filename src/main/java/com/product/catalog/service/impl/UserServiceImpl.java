@@ -0,0 +1,65 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.cache.UserDetailsCache;
+import com.product.catalog.entity.UserAccount;
+import com.product.catalog.exception.BusinessValidationException;
+import com.product.catalog.exception.ResourceNotFoundException;
+import com.product.catalog.repository.UserAccountRepository;
+import com.product.catalog.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Implementation of UserService
+ * Hashing happens only when a password is set or verified, never on per-request lookups.
+ */
+@Service
+@Transactional
+public class UserServiceImpl implements UserService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserServiceImpl.class);
+
+    private final UserAccountRepository userAccountRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+
+    public UserServiceImpl(UserAccountRepository userAccountRepository,
+                           PasswordEncoder passwordEncoder,
+                           UserDetailsCache userDetailsCache) {
+        this.userAccountRepository = userAccountRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @Override
+    public boolean createUserIfAbsent(String username, String rawPassword, Set<String> roles) {
+        if (userAccountRepository.existsById(username)) {
+            return false;
+        }
+        userAccountRepository.save(new UserAccount(username, passwordEncoder.encode(rawPassword), roles));
+        userDetailsCache.evictAfterCommit(username);
+        log.info("Created user: {}", username);
+        return true;
+    }
+
+    @Override
+    public void changePassword(String username, String currentPassword, String newPassword) {
+        UserAccount account = userAccountRepository.findById(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+
+        if (!passwordEncoder.matches(currentPassword, account.getPasswordHash())) {
+            throw new BusinessValidationException("Current password is incorrect");
+        }
+
+        account.setPasswordHash(passwordEncoder.encode(newPassword));
+        account.setPasswordChangedAt(Instant.now());
+        userDetailsCache.evictAfterCommit(username);
+        log.info("Password changed for user: {}", username);
+    }
+}
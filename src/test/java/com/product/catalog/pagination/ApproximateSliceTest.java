@@ -0,0 +1,40 @@
+package com.product.catalog.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApproximateSliceTest {
+
+    @Test
+    void isLast_WithOverestimatedTotal_ShouldFollowFetchedRows() {
+        // Given: page 2 of size 10 holds the final 4 rows, the stale estimate says 100
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b", "c", "d"), PageRequest.of(2, 10), false);
+
+        // When
+        ApproximateSlice<String> page = new ApproximateSlice<>(slice, 100);
+
+        // Then
+        assertTrue(page.isLast());
+        assertFalse(page.hasNext());
+        assertEquals(100, page.getApproximateTotal());
+        assertEquals(10, page.getApproximateTotalPages());
+    }
+
+    @Test
+    void isLast_WithUnderestimatedTotal_ShouldFollowFetchedRows() {
+        // Given
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true);
+
+        // When
+        ApproximateSlice<String> page = new ApproximateSlice<>(slice, 2);
+
+        // Then
+        assertFalse(page.isLast());
+        assertEquals(List.of("a", "b"), page.getContent());
+    }
+}
@@ -0,0 +1,57 @@
+package com.product.catalog.pagination;
+
+import com.product.catalog.entity.Price;
+import com.product.catalog.entity.Product;
+import com.product.catalog.exception.BusinessValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCursorTest {
+
+    @Test
+    void decode_ShouldRestoreEncodedCursor() {
+        // Given
+        Product product = new Product("LAPTOP-001", "Laptop", null, new Price(new BigDecimal("1299.50"), "USD"), true, null);
+        ProductCursor cursor = ProductCursor.after(product, ProductSortField.PRICE, Sort.Direction.ASC);
+
+        // When
+        ProductCursor decoded = ProductCursor.decode(cursor.encode(), ProductSortField.PRICE, Sort.Direction.ASC);
+
+        // Then
+        assertEquals(cursor, decoded);
+        assertEquals(new BigDecimal("1299.50"), decoded.typedValue());
+    }
+
+    @Test
+    void decode_WithNullSortKey_ShouldRestoreNullValue() {
+        // Given
+        Product product = new Product("NO-PRICE|1:x", null, null, null, true, null);
+        ProductCursor cursor = ProductCursor.after(product, ProductSortField.NAME, Sort.Direction.DESC);
+
+        // When
+        ProductCursor decoded = ProductCursor.decode(cursor.encode(), ProductSortField.NAME, Sort.Direction.DESC);
+
+        // Then
+        assertNull(decoded.value());
+        assertNull(decoded.typedValue());
+        assertEquals("NO-PRICE|1:x", decoded.code());
+    }
+
+    @Test
+    void decode_WithDifferentSort_ShouldThrowException() {
+        // Given
+        String token = new ProductCursor(ProductSortField.NAME, Sort.Direction.ASC, "Laptop", "LAPTOP-001").encode();
+
+        // When & Then
+        assertThrows(BusinessValidationException.class,
+                () -> ProductCursor.decode(token, ProductSortField.NAME, Sort.Direction.DESC));
+        assertThrows(BusinessValidationException.class,
+                () -> ProductCursor.decode(token, ProductSortField.PRICE, Sort.Direction.ASC));
+        assertThrows(BusinessValidationException.class,
+                () -> ProductCursor.decode("not a cursor", ProductSortField.NAME, Sort.Direction.ASC));
+    }
+}
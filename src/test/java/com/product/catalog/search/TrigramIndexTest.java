@@ -0,0 +1,149 @@
+package com.product.catalog.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TrigramIndex.
+ * Tests prefix and typo-tolerant matching, ranking and incremental updates.
+ */
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put("LAPTOP-001", "Professional Laptop", "SKU-LAPTOP-001");
+        index.put("PHONE-001", "Smartphone Pro", "SKU-PHONE-001");
+        index.put("MOUSE-001", "Wireless Mouse", "SKU-MOUSE-001");
+    }
+
+    @Test
+    void search_PrefixOfName_ReturnsProductFirst() {
+        // When
+        List<TrigramIndex.Suggestion> suggestions = index.search("lapt", 5);
+
+        // Then
+        assertFalse(suggestions.isEmpty());
+        assertEquals("LAPTOP-001", suggestions.get(0).code());
+        assertEquals("Professional Laptop", suggestions.get(0).name());
+    }
+
+    @Test
+    void search_Misspelling_StillMatches() {
+        // When
+        List<TrigramIndex.Suggestion> suggestions = index.search("wireles mosue", 5);
+
+        // Then
+        assertFalse(suggestions.isEmpty());
+        assertEquals("MOUSE-001", suggestions.get(0).code());
+    }
+
+    @Test
+    void search_ByCode_BoostsPrefixMatch() {
+        // When
+        List<TrigramIndex.Suggestion> suggestions = index.search("phone-0", 5);
+
+        // Then
+        assertEquals("PHONE-001", suggestions.get(0).code());
+        assertTrue(suggestions.get(0).score() > 1.0f);
+    }
+
+    @Test
+    void search_RespectsLimitAndOrdersByScore() {
+        // Given
+        for (int i = 0; i < 50; i++) {
+            index.put("CABLE-" + i, "USB Cable " + i, null);
+        }
+
+        // When
+        List<TrigramIndex.Suggestion> suggestions = index.search("usb cab", 10);
+
+        // Then
+        assertEquals(10, suggestions.size());
+        for (int i = 1; i < suggestions.size(); i++) {
+            assertTrue(suggestions.get(i - 1).score() >= suggestions.get(i).score());
+        }
+    }
+
+    @Test
+    void search_TooShortQuery_ReturnsNothing() {
+        // When / Then
+        assertTrue(index.search("l", 5).isEmpty());
+        assertTrue(index.search("   ", 5).isEmpty());
+    }
+
+    @Test
+    void put_ExistingCode_ReplacesEntry() {
+        // When
+        index.put("LAPTOP-001", "Gaming Notebook", "SKU-LAPTOP-001");
+
+        // Then
+        assertEquals(3, index.size());
+        assertEquals("Gaming Notebook", index.search("notebo", 5).get(0).name());
+        assertTrue(index.search("professional", 5).isEmpty());
+    }
+
+    @Test
+    void remove_ProductNoLongerSuggested() {
+        // When
+        index.remove("MOUSE-001");
+
+        // Then
+        assertEquals(2, index.size());
+        assertTrue(index.search("wireless mouse", 5).stream().noneMatch(s -> s.code().equals("MOUSE-001")));
+    }
+
+    @Test
+    void remove_ManyProducts_CompactsAndKeepsRemainingSearchable() {
+        // Given
+        for (int i = 0; i < 5000; i++) {
+            index.put("BULK-" + i, "Bulk Item " + i, null);
+        }
+
+        // When
+        for (int i = 0; i < 5000; i++) {
+            index.remove("BULK-" + i);
+        }
+
+        // Then
+        assertEquals(3, index.size());
+        assertEquals("LAPTOP-001", index.search("laptop", 5).get(0).code());
+        assertTrue(index.estimatedBytes() > 0);
+    }
+
+    @Test
+    void search_ManyCandidates_RanksClosestMatchFirst() {
+        // Given: every product shares the "bulk item" trigrams
+        for (int i = 0; i < 3000; i++) {
+            index.put("BULK-" + i, "Bulk Item " + i, null);
+        }
+
+        // When
+        List<TrigramIndex.Suggestion> suggestions = index.search("bulk item 2718", 3);
+
+        // Then
+        assertEquals(3, suggestions.size());
+        assertEquals("BULK-2718", suggestions.get(0).code());
+    }
+
+    @Test
+    void estimatedBytes_AfterSearch_IncludesPooledScratch() {
+        // Given
+        for (int i = 0; i < 3000; i++) {
+            index.put("BULK-" + i, "Bulk Item " + i, null);
+        }
+        long before = index.estimatedBytes();
+
+        // When
+        index.search("bulk item", 5);
+
+        // Then
+        assertTrue(index.estimatedBytes() > before);
+    }
+}
@@ -0,0 +1,62 @@
+package com.product.catalog.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldReturnTrueForEveryAddedValue() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("jti-" + i), "false negative for jti-" + i);
+        }
+    }
+
+    @Test
+    void mightContain_ShouldStayNearTargetFalsePositiveRate() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        // When
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < probes * 0.02, "false positive rate too high: " + falsePositives + "/" + probes);
+    }
+
+    @Test
+    void mightContain_OnEmptyFilter_ShouldReturnFalse() {
+        // Given
+        BloomFilter filter = new BloomFilter(1_000, 0.001);
+
+        // When & Then
+        assertFalse(filter.mightContain(UUID.randomUUID().toString()));
+        assertTrue(filter.hashCount() >= 1);
+        assertTrue(filter.bitCount() >= 1_000);
+    }
+
+    @Test
+    void constructor_WithInvalidSizing_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1_000, 1.0));
+    }
+}
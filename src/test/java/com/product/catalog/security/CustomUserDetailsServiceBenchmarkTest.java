@@ -0,0 +1,106 @@
+package com.product.catalog.security;
+
+import com.product.catalog.cache.CacheInvalidationBus;
+import com.product.catalog.cache.UserDetailsCache;
+import com.product.catalog.entity.UserAccount;
+import com.product.catalog.repository.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Measures CPU time per user lookup, the work JwtAuthenticationFilter does on every request,
+ * with several threads calling concurrently.
+ * "Hash per request" replays the previous implementation, which BCrypt-encoded the password on every lookup.
+ * Timing-based, so it is excluded from the default test run; run it with ./gradlew benchmarkTest.
+ */
+@Tag("benchmark")
+class CustomUserDetailsServiceBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomUserDetailsServiceBenchmarkTest.class);
+
+    private static final int HASHING_CALLS_PER_THREAD = 5;
+    private static final int CACHED_CALLS_PER_THREAD = 20_000;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8})
+    void loadUserByUsername_CachedStoreCostsFarLessCpuThanHashingPerRequest(int threads) throws Exception {
+        // Given
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        UserAccountRepository repository = mock(UserAccountRepository.class);
+        when(repository.findById("admin")).thenReturn(Optional.of(
+                new UserAccount("admin", passwordEncoder.encode("admin123"), Set.of("ADMIN"))));
+        UserDetailsCache cache = new UserDetailsCache(new SimpleMeterRegistry(), mock(CacheInvalidationBus.class),
+                1000, Duration.ofMinutes(5));
+        UserDetailsService cached = new CustomUserDetailsService(repository, cache);
+        UserDetailsService hashPerRequest = username -> User.builder()
+                .username(username)
+                .password(passwordEncoder.encode("admin123"))
+                .authorities(new ArrayList<>())
+                .build();
+
+        // When
+        double hashingNanosPerCall = cpuNanosPerCall(hashPerRequest, threads, HASHING_CALLS_PER_THREAD);
+        double cachedNanosPerCall = cpuNanosPerCall(cached, threads, CACHED_CALLS_PER_THREAD);
+
+        log.debug("loadUserByUsername threads={}: hash per request={} ns/call, cached={} ns/call",
+                threads, Math.round(hashingNanosPerCall), Math.round(cachedNanosPerCall));
+
+        // Then
+        verify(repository, times(1)).findById("admin");
+        assertTrue(cachedNanosPerCall * 100 < hashingNanosPerCall,
+                "expected the cached lookup to be at least 100x cheaper, got " + cachedNanosPerCall
+                        + " ns vs " + hashingNanosPerCall + " ns");
+    }
+
+    /**
+     * Run the lookups on the given number of threads and return the CPU time they used per call
+     */
+    private double cpuNanosPerCall(UserDetailsService service, int threads, int callsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    long start = threadMXBean.getCurrentThreadCpuTime();
+                    for (int i = 0; i < callsPerThread; i++) {
+                        UserDetails userDetails = service.loadUserByUsername("admin");
+                        assertEquals("admin", userDetails.getUsername());
+                    }
+                    return threadMXBean.getCurrentThreadCpuTime() - start;
+                }));
+            }
+            long totalCpuNanos = 0;
+            for (Future<Long> result : results) {
+                totalCpuNanos += result.get();
+            }
+            return (double) totalCpuNanos / ((long) threads * callsPerThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.product.catalog.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -197,5 +201,65 @@ class JwtTokenUtilTest {
         // Then
         assertNotEquals(token1, token2);
     }
-}
 
+    @Test
+    void verify_ReusedToken_ShouldReturnCachedClaims() {
+        // Given
+        String token = jwtTokenUtil.generateToken(userDetails);
+
+        // When
+        Claims first = jwtTokenUtil.verify(token);
+        Claims second = jwtTokenUtil.verify(token);
+
+        // Then
+        assertEquals("testuser", first.getSubject());
+        assertSame(first, second);
+    }
+
+    @Test
+    void verify_WithTamperedSignature_ShouldThrowException() {
+        // Given
+        String token = jwtTokenUtil.generateToken(userDetails);
+        jwtTokenUtil.verify(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When & Then
+        assertThrows(JwtException.class, () -> jwtTokenUtil.verify(tampered));
+    }
+
+    @Test
+    void extractAuthorities_ShouldReturnAuthoritiesEmbeddedAtGeneration() {
+        // Given
+        UserDetails admin = User.builder()
+                .username("admin")
+                .password("password")
+                .authorities("ROLE_ADMIN", "ROLE_USER")
+                .build();
+        String token = jwtTokenUtil.generateToken(admin);
+
+        // When
+        List<GrantedAuthority> authorities = jwtTokenUtil.extractAuthorities(jwtTokenUtil.verify(token));
+
+        // Then
+        assertEquals(List.of("ROLE_ADMIN", "ROLE_USER"),
+                authorities.stream().map(GrantedAuthority::getAuthority).sorted().toList());
+    }
+
+    @Test
+    void generateRefreshToken_ShouldBeDistinguishableFromAccessToken() {
+        // Given
+        String accessToken = jwtTokenUtil.generateToken(userDetails);
+        String refreshToken = jwtTokenUtil.generateRefreshToken(userDetails);
+
+        // When
+        Claims accessClaims = jwtTokenUtil.verify(accessToken);
+        Claims refreshClaims = jwtTokenUtil.verify(refreshToken);
+
+        // Then
+        assertFalse(jwtTokenUtil.isRefreshToken(accessClaims));
+        assertTrue(jwtTokenUtil.isRefreshToken(refreshClaims));
+        assertEquals("testuser", refreshClaims.getSubject());
+        assertTrue(jwtTokenUtil.extractAuthorities(refreshClaims).isEmpty());
+        assertTrue(refreshClaims.getExpiration().after(accessClaims.getExpiration()));
+    }
+}
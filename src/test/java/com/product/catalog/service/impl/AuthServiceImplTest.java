@@ -1,8 +1,13 @@
 package com.product.catalog.service.impl;
 
+import com.product.catalog.cache.UserRef;
 import com.product.catalog.dto.LoginRequest;
 import com.product.catalog.dto.LoginResponse;
+import com.product.catalog.security.CustomUserDetailsService;
 import com.product.catalog.security.JwtTokenUtil;
+import com.product.catalog.security.TokenRevocationChecker;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,9 +20,11 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,7 +44,10 @@ class AuthServiceImplTest {
     private JwtTokenUtil jwtTokenUtil;
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private TokenRevocationChecker revocationChecker;
 
     @Mock
     private Authentication authentication;
@@ -131,5 +141,63 @@ class AuthServiceImplTest {
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         // SecurityContext setting is verified by the authentication flow
     }
-}
 
+    @Test
+    void refresh_WithRevokedRefreshToken_ShouldThrowException() {
+        // Given
+        Claims claims = Jwts.claims().subject("admin").id("revoked-jti").build();
+        when(jwtTokenUtil.verify("refresh.token")).thenReturn(claims);
+        when(jwtTokenUtil.isRefreshToken(claims)).thenReturn(true);
+        when(revocationChecker.isRevoked(claims)).thenReturn(true);
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> authService.refresh("refresh.token"));
+
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(jwtTokenUtil, never()).generateToken(any());
+    }
+
+    @Test
+    void refresh_WithTokenIssuedBeforePasswordChange_ShouldThrowException() {
+        // Given
+        Instant passwordChangedAt = Instant.parse("2026-03-01T10:00:00.750Z");
+        Claims claims = Jwts.claims().subject("admin").id("old-jti")
+                .issuedAt(Date.from(passwordChangedAt.minusSeconds(60))).build();
+        when(jwtTokenUtil.verify("refresh.token")).thenReturn(claims);
+        when(jwtTokenUtil.isRefreshToken(claims)).thenReturn(true);
+        when(revocationChecker.isRevoked(claims)).thenReturn(false);
+        when(userDetailsService.loadUserRef("admin")).thenReturn(userRef(passwordChangedAt));
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> authService.refresh("refresh.token"));
+
+        verify(jwtTokenUtil, never()).generateToken(any());
+    }
+
+    @Test
+    void refresh_WithTokenIssuedInSameSecondAsPasswordChange_ShouldReturnNewAccessToken() {
+        // Given
+        Instant passwordChangedAt = Instant.parse("2026-03-01T10:00:00.750Z");
+        // iat is truncated to whole seconds when the token is signed
+        Claims claims = Jwts.claims().subject("admin").id("new-jti")
+                .issuedAt(Date.from(Instant.parse("2026-03-01T10:00:00Z"))).build();
+        UserRef user = userRef(passwordChangedAt);
+        when(jwtTokenUtil.verify("refresh.token")).thenReturn(claims);
+        when(jwtTokenUtil.isRefreshToken(claims)).thenReturn(true);
+        when(revocationChecker.isRevoked(claims)).thenReturn(false);
+        when(userDetailsService.loadUserRef("admin")).thenReturn(user);
+        when(userDetailsService.toUserDetails(user)).thenReturn(userDetails);
+        when(jwtTokenUtil.generateToken(userDetails)).thenReturn("access.token");
+
+        // When
+        LoginResponse response = authService.refresh("refresh.token");
+
+        // Then
+        assertEquals("access.token", response.getToken());
+        assertEquals("refresh.token", response.getRefreshToken());
+    }
+
+    private static UserRef userRef(Instant passwordChangedAt) {
+        return new UserRef("admin", "encodedPassword", true, Set.of("ADMIN"), passwordChangedAt);
+    }
+}
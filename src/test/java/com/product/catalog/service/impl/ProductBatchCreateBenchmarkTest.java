@@ -0,0 +1,139 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.domain.PriceDomain;
+import com.product.catalog.domain.ProductDomain;
+import com.product.catalog.entity.Product;
+import com.product.catalog.mapper.ProductMapper;
+import com.product.catalog.repository.ProductRepository;
+import com.product.catalog.service.ProductService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts JDBC statements and executed JDBC batches issued by the batch create path, per batch size.
+ * "Per row" replays the previous implementation: one existsByCode per product and unbatched inserts.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.session.events.auto=com.product.catalog.service.impl.ProductBatchCreateBenchmarkTest$JdbcBatchCounter"
+})
+class ProductBatchCreateBenchmarkTest {
+
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    /**
+     * Registered with every Hibernate session; counts statement.executeBatch() calls
+     */
+    public static class JdbcBatchCounter implements SessionEventListener {
+
+        static final AtomicLong BATCHES = new AtomicLong();
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            BATCHES.incrementAndGet();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        productRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void createProducts_IssuesOneExistenceQueryAndBatchedInserts(int batchSize) {
+        // Given
+        List<ProductDomain> perRowProducts = products("PER-ROW-", batchSize);
+        List<ProductDomain> batchedProducts = products("BATCHED-", batchSize);
+
+        // When
+        statistics.clear();
+        JdbcBatchCounter.BATCHES.set(0);
+        createPerRow(perRowProducts);
+        long perRowStatements = statistics.getPrepareStatementCount();
+        long perRowBatches = JdbcBatchCounter.BATCHES.get();
+
+        statistics.clear();
+        JdbcBatchCounter.BATCHES.set(0);
+        List<ProductDomain> created = productService.createProducts(batchedProducts);
+        long batchedStatements = statistics.getPrepareStatementCount();
+        long batchedBatches = JdbcBatchCounter.BATCHES.get();
+
+        // Then
+        assertEquals(batchSize, created.size());
+        assertEquals(2L * batchSize, productRepository.count());
+        assertTrue(perRowStatements >= 2L * batchSize);
+        assertEquals(0, perRowBatches, "per-row inserts must not be batched");
+        assertEquals(ceilDiv(batchSize, JDBC_BATCH_SIZE), batchedBatches,
+                "expected the inserts to be sent as JDBC batches of " + JDBC_BATCH_SIZE);
+        assertTrue(batchedStatements <= 1 + ceilDiv(batchSize, JDBC_BATCH_SIZE),
+                "expected one existence query plus one statement per JDBC batch, got " + batchedStatements);
+    }
+
+    private void createPerRow(List<ProductDomain> products) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+            products.forEach(product -> assertFalse(productRepository.existsByCode(product.getCode())));
+            List<Product> entities = products.stream().map(productMapper::domainToEntity).toList();
+            productRepository.saveAll(entities);
+        });
+    }
+
+    private static List<ProductDomain> products(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ProductDomain.builder()
+                        .code(prefix + i)
+                        .name("Benchmark product " + i)
+                        .basePrice(new PriceDomain(new BigDecimal("9.99"), "USD"))
+                        .isInStock(true)
+                        .build())
+                .toList();
+    }
+
+    private static long ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
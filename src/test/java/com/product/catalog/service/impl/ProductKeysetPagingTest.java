@@ -0,0 +1,98 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.domain.ProductDomain;
+import com.product.catalog.domain.ProductFilter;
+import com.product.catalog.entity.Price;
+import com.product.catalog.entity.Product;
+import com.product.catalog.pagination.CursorPage;
+import com.product.catalog.pagination.ProductSortField;
+import com.product.catalog.repository.ProductRepository;
+import com.product.catalog.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pages through a price-sorted listing whose sort key is NULL for some products.
+ * Every product must appear exactly once, in (price, code) order with NULL prices last ascending
+ * and first descending, whichever page the null boundary falls on.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ProductKeysetPagingTest {
+
+    private static final List<String> PRICE_ASCENDING = List.of(
+            "P-A", "P-B", "P-C", "P-D", "P-E", "N-A", "N-B", "N-C");
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAllInBatch();
+        productRepository.saveAll(List.of(
+                product("P-C", "20.00"),
+                product("P-A", "10.00"),
+                product("P-B", "10.00"),
+                product("P-E", "40.00"),
+                product("P-D", "30.00"),
+                product("N-B", null),
+                product("N-A", null),
+                product("N-C", null)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 8, 10})
+    void getProductsByCursor_Ascending_ShouldCrossIntoNullPrices(int pageSize) {
+        // When
+        List<String> codes = pageThrough(Sort.Direction.ASC, pageSize);
+
+        // Then
+        assertEquals(PRICE_ASCENDING, codes);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 8, 10})
+    void getProductsByCursor_Descending_ShouldCrossOutOfNullPrices(int pageSize) {
+        // When
+        List<String> codes = pageThrough(Sort.Direction.DESC, pageSize);
+
+        // Then
+        assertEquals(List.of("N-C", "N-B", "N-A", "P-E", "P-D", "P-C", "P-B", "P-A"), codes);
+    }
+
+    private List<String> pageThrough(Sort.Direction direction, int pageSize) {
+        List<String> codes = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<ProductDomain> page = productService.getProductsByCursor(
+                    ProductFilter.none(), ProductSortField.PRICE, direction, cursor, pageSize);
+            assertTrue(page.content().size() <= pageSize);
+            page.content().forEach(product -> codes.add(product.getCode()));
+            cursor = page.nextCursor();
+            assertTrue(codes.size() <= PRICE_ASCENDING.size(), "paging did not terminate: " + codes);
+        } while (cursor != null);
+        return codes;
+    }
+
+    private static Product product(String code, String price) {
+        Price basePrice = price != null ? new Price(new BigDecimal(price), "USD") : null;
+        return new Product(code, "Product " + code, null, basePrice, true, null);
+    }
+}
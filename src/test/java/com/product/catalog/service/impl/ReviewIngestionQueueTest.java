@@ -0,0 +1,113 @@
+package com.product.catalog.service.impl;
+
+import com.product.catalog.cache.ProductCache;
+import com.product.catalog.domain.ReviewDomain;
+import com.product.catalog.repository.ProductRatingJdbcRepository;
+import com.product.catalog.repository.ReviewJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReviewIngestionQueue.
+ * Accepted reviews must survive database outages and only be dropped when their own data is rejected.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReviewIngestionQueueTest {
+
+    @Mock
+    private ReviewJdbcRepository reviewJdbcRepository;
+
+    @Mock
+    private ProductRatingJdbcRepository productRatingJdbcRepository;
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> writtenIds = new CopyOnWriteArrayList<>();
+
+    private ReviewIngestionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ReviewIngestionQueue(reviewJdbcRepository, productRatingJdbcRepository, productCache,
+                transactionManager, 100, 10, Duration.ofMillis(1), Duration.ofSeconds(10), Duration.ofMillis(1));
+
+        doAnswer(invocation -> {
+            List<ReviewDomain> reviews = invocation.getArgument(0);
+            if (reviews.stream().anyMatch(review -> review.getId().startsWith("bad"))) {
+                throw new DataIntegrityViolationException("insert or update on table \"reviews\" violates foreign key");
+            }
+            reviews.forEach(review -> writtenIds.add(review.getId()));
+            return null;
+        }).when(reviewJdbcRepository).insertAll(anyList());
+    }
+
+    @Test
+    void flush_WhenDatabaseUnreachable_ShouldRetryUntilBatchIsWritten() {
+        // Given
+        when(transactionManager.getTransaction(any()))
+                .thenThrow(new CannotCreateTransactionException("Connection refused"))
+                .thenThrow(new CannotCreateTransactionException("Connection refused"))
+                .thenReturn(new SimpleTransactionStatus());
+
+        // When
+        queue.start();
+        queue.submit(review("r1", "P1"));
+        queue.submit(review("r2", "P1"));
+        queue.submit(review("r3", "P2"));
+        queue.stop();
+
+        // Then
+        assertEquals(List.of("r1", "r2", "r3"), writtenIds);
+        assertEquals(0, queue.pending());
+        verify(transactionManager, atLeast(3)).getTransaction(any());
+        verify(productRatingJdbcRepository, atLeastOnce()).applyDeltas(any());
+    }
+
+    @Test
+    void flush_WhenOneRowIsRejected_ShouldDropOnlyThatRow() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        // When
+        queue.start();
+        queue.submit(review("r1", "P1"));
+        queue.submit(review("bad-1", "DELETED"));
+        queue.submit(review("r2", "P2"));
+        queue.stop();
+
+        // Then
+        assertEquals(List.of("r1", "r2"), writtenIds);
+        assertEquals(0, queue.pending());
+    }
+
+    private static ReviewDomain review(String id, String productCode) {
+        ReviewDomain review = new ReviewDomain();
+        review.setId(id);
+        review.setProductCode(productCode);
+        review.setRating(4);
+        review.setComment("Good");
+        review.setCreatedDate(Instant.now());
+        return review;
+    }
+}